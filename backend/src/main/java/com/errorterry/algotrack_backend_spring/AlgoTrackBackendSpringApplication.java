@@ -1,5 +1,6 @@
 package com.errorterry.algotrack_backend_spring;
 
+import com.errorterry.algotrack_backend_spring.service.SolvedLogImportRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
@@ -7,6 +8,13 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 public class AlgoTrackBackendSpringApplication {
 
     public static void main(String[] args) {
+        // --import=파일 : 웹 서버 없이 풀이 기록 가져오기 후 종료 (application-import.properties)
+        if (SolvedLogImportRunner.isImportMode(args)) {
+            SpringApplication application = new SpringApplication(AlgoTrackBackendSpringApplication.class);
+            application.setAdditionalProfiles("import");
+            System.exit(SpringApplication.exit(application.run(args)));
+        }
+
         SpringApplication.run(AlgoTrackBackendSpringApplication.class, args);
     }
 
@@ -0,0 +1,14 @@
+package com.errorterry.algotrack_backend_spring.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 스케줄 작업 활성화 (랭킹 월 재생성 / 멱등 키 정리 / 플랫폼 리포트)
+// - --import 실행(import 프로파일)은 가져오기만 하고 종료하므로 제외
+//   (서버 프로세스와 같은 작업을 동시에 돌리지 않도록)
+@Configuration
+@EnableScheduling
+@Profile("!import")
+public class SchedulingConfig {
+}
@@ -35,9 +35,14 @@ public class SecurityConfig {
                         // 🔒 인증 필요 API만 명시
                         .requestMatchers(
                                 "/api/goal/**",
-                                "/api/goal-algorithm/**"
+                                "/api/goal-algorithm/**",
+                                "/api/_debug/dbinfo",
+                                "/api/_debug/users-count"
                         ).authenticated()
 
+                        // 🔒 운영용 API : 롤업 재생성 / 카탈로그 재적재 등 (debug-api.enabled=true 일 때만 등록, 관리자만)
+                        .requestMatchers("/api/_debug/**").hasRole("ADMIN")
+
                         // 🔓 그 외 나머지는 전부 허용
                         .anyRequest().permitAll()
                 )
@@ -0,0 +1,172 @@
+package com.errorterry.algotrack_backend_spring.controller;
+
+import com.errorterry.algotrack_backend_spring.dto.PlatformMonthlyReportResponseDto;
+import com.errorterry.algotrack_backend_spring.service.ActivityHeatmapCache;
+import com.errorterry.algotrack_backend_spring.service.AlgorithmCatalog;
+import com.errorterry.algotrack_backend_spring.service.IdempotencyService;
+import com.errorterry.algotrack_backend_spring.service.MonthlyStatisticsCache;
+import com.errorterry.algotrack_backend_spring.service.PlatformRankingService;
+import com.errorterry.algotrack_backend_spring.service.PlatformReportService;
+import com.errorterry.algotrack_backend_spring.service.ProblemCatalog;
+import com.errorterry.algotrack_backend_spring.service.SolvedLogIngestQueue;
+import com.errorterry.algotrack_backend_spring.service.SolvedProblemCache;
+import com.errorterry.algotrack_backend_spring.service.StatisticsSectionExecutor;
+import com.errorterry.algotrack_backend_spring.service.UserDataVersionService;
+import com.errorterry.algotrack_backend_spring.service.UserMonthStatsService;
+import com.errorterry.algotrack_backend_spring.service.UserStreakService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.YearMonth;
+import java.util.Map;
+
+// 운영 / 백필용 API (재생성 / 카탈로그 재적재 / 리포트 생성 / 내부 현황)
+// - debug-api.enabled=true 일 때만 등록
+// - 관리자(debug-api.admin-user-ids 에 포함된 사용자, ROLE_ADMIN)만 호출 가능 (SecurityConfig)
+@RestController
+@ConditionalOnProperty(name = "debug-api.enabled", havingValue = "true")
+@RequestMapping("/api/_debug")
+@RequiredArgsConstructor
+public class DebugAdminController {
+
+    private final UserMonthStatsService userMonthStatsService;
+    private final UserStreakService userStreakService;
+    private final MonthlyStatisticsCache monthlyStatisticsCache;
+    private final ActivityHeatmapCache activityHeatmapCache;
+    private final PlatformRankingService platformRankingService;
+    private final PlatformReportService platformReportService;
+    private final StatisticsSectionExecutor statisticsSectionExecutor;
+    private final UserDataVersionService userDataVersionService;
+    private final AlgorithmCatalog algorithmCatalog;
+    private final ProblemCatalog problemCatalog;
+    private final SolvedLogIngestQueue solvedLogIngestQueue;
+    private final SolvedProblemCache solvedProblemCache;
+    private final IdempotencyService idempotencyService;
+
+    // 월간 통계 롤업 재생성 (백필용)
+    // - userId 지정 시 해당 사용자만, 없으면 전체 사용자
+    @PostMapping("/rollup/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildRollup(
+            @RequestParam(value = "userId", required = false) Integer userId
+    ) {
+        int months = (userId != null)
+                ? userMonthStatsService.rebuildUser(userId)
+                : userMonthStatsService.rebuildAll();
+
+        return ResponseEntity.ok(Map.of("rebuilt_months", months));
+    }
+
+    // 연속 풀이 스트릭 재생성 (백필용)
+    // - userId 지정 시 해당 사용자만, 없으면 전체 사용자
+    @PostMapping("/streak/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildStreak(
+            @RequestParam(value = "userId", required = false) Integer userId
+    ) {
+        int streaks = (userId != null)
+                ? userStreakService.rebuildUser(userId)
+                : userStreakService.rebuildAll();
+
+        return ResponseEntity.ok(Map.of("rebuilt_streaks", streaks));
+    }
+
+    // 월간 통계 캐시 현황 (hit / miss / eviction)
+    @GetMapping("/statistics-cache")
+    public ResponseEntity<Map<String, Object>> statisticsCache() {
+        return ResponseEntity.ok(monthlyStatisticsCache.stats());
+    }
+
+    // 월간 통계 구간 실행 현황 (실행 모드, serial / parallel 응답 시간, permit 부족 / 마감 초과 횟수)
+    @GetMapping("/statistics-sections")
+    public ResponseEntity<Map<String, Object>> statisticsSections() {
+        return ResponseEntity.ok(statisticsSectionExecutor.stats());
+    }
+
+    // 사용자 데이터 버전(ETag) 현황
+    @GetMapping("/data-versions")
+    public ResponseEntity<Map<String, Object>> dataVersions() {
+        return ResponseEntity.ok(userDataVersionService.stats());
+    }
+
+    // 알고리즘 카탈로그 현황 (적재된 알고리즘 수)
+    @GetMapping("/algorithm-catalog")
+    public ResponseEntity<Map<String, Object>> algorithmCatalogStats() {
+        return ResponseEntity.ok(algorithmCatalog.stats());
+    }
+
+    // 알고리즘 카탈로그 다시 적재 (algorithm.csv 시드 반영 후 호출)
+    @PostMapping("/algorithm-catalog/reload")
+    public ResponseEntity<Map<String, Object>> reloadAlgorithmCatalog() {
+        algorithmCatalog.reload();
+        return ResponseEntity.ok(algorithmCatalog.stats());
+    }
+
+    // 문제 카탈로그 현황 (적재된 문제 수, 문제당 평균 태그 수, 메모리)
+    @GetMapping("/problem-catalog")
+    public ResponseEntity<Map<String, Object>> problemCatalogStats() {
+        return ResponseEntity.ok(problemCatalog.stats());
+    }
+
+    // 문제 카탈로그 다시 적재 (problem 테이블 변경 후 호출)
+    @PostMapping("/problem-catalog/reload")
+    public ResponseEntity<Map<String, Object>> reloadProblemCatalog() {
+        problemCatalog.reload();
+        return ResponseEntity.ok(problemCatalog.stats());
+    }
+
+    // 풀이 비동기 수집 현황 (대기열 깊이, 접수 ~ 커밋 지연, 묶음 처리 시간, 저널 오프셋)
+    @GetMapping("/solve-ingest")
+    public ResponseEntity<Map<String, Object>> solveIngest() {
+        return ResponseEntity.ok(solvedLogIngestQueue.stats());
+    }
+
+    // 푼 문제 비트맵 캐시 현황 (hit / miss, 중복 제출 차단 수, 사용자당 메모리)
+    @GetMapping("/solved-problem-cache")
+    public ResponseEntity<Map<String, Object>> solvedProblemCacheStats() {
+        return ResponseEntity.ok(solvedProblemCache.stats());
+    }
+
+    // 멱등 키 처리 현황 (실행 / 캐시 재응답 / 테이블 재응답)
+    @GetMapping("/idempotency")
+    public ResponseEntity<Map<String, Object>> idempotency() {
+        return ResponseEntity.ok(idempotencyService.stats());
+    }
+
+    // 연간 히트맵 캐시 현황 (hit / miss / eviction)
+    @GetMapping("/heatmap-cache")
+    public ResponseEntity<Map<String, Object>> heatmapCache() {
+        return ResponseEntity.ok(activityHeatmapCache.stats());
+    }
+
+    // 플랫폼 순위 분포 현황 (월별 참여자 수)
+    @GetMapping("/ranking")
+    public ResponseEntity<Map<String, Object>> ranking() {
+        return ResponseEntity.ok(platformRankingService.stats());
+    }
+
+    // 플랫폼 순위 분포 즉시 재생성 (이번 달 / 지난 달 + 보관 중인 월)
+    @PostMapping("/ranking/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildRanking() {
+        platformRankingService.rebuildTrackedMonths();
+        return ResponseEntity.ok(platformRankingService.stats());
+    }
+
+    // 플랫폼 월간 리포트 조회 (저장된 결과)
+    // - 예시: GET /api/_debug/platform-report?month=2025-03
+    @GetMapping("/platform-report")
+    public ResponseEntity<PlatformMonthlyReportResponseDto> platformReport(
+            @RequestParam("month") YearMonth month
+    ) {
+        return ResponseEntity.ok(platformReportService.getReport(month));
+    }
+
+    // 플랫폼 월간 리포트 즉시 생성 (사용자 id 구간 병렬 집계 후 저장)
+    @PostMapping("/platform-report")
+    public ResponseEntity<PlatformMonthlyReportResponseDto> generatePlatformReport(
+            @RequestParam("month") YearMonth month
+    ) {
+        return ResponseEntity.ok(platformReportService.generate(month));
+    }
+
+}
@@ -9,6 +9,8 @@ import org.springframework.web.bind.annotation.RestController;
 
 import java.util.Map;
 
+// DB 연결 확인용 API (항상 등록, 인증 필요)
+// - 재생성 / 재적재 등 운영용 API 는 DebugAdminController (debug-api.enabled=true + 관리자만)
 @RestController
 @RequestMapping("/api/_debug")
 @RequiredArgsConstructor
@@ -1,11 +1,20 @@
 package com.errorterry.algotrack_backend_spring.controller;
 
+import com.errorterry.algotrack_backend_spring.dto.SolvedLogBatchRequestDto;
+import com.errorterry.algotrack_backend_spring.dto.SolvedLogBatchResponseDto;
 import com.errorterry.algotrack_backend_spring.dto.SolvedLogRequestDto;
 import com.errorterry.algotrack_backend_spring.security.AuthUser;
+import com.errorterry.algotrack_backend_spring.service.IdempotencyService;
+import com.errorterry.algotrack_backend_spring.service.SolvedLogExportService;
+import com.errorterry.algotrack_backend_spring.service.SolvedLogIngestQueue;
 import com.errorterry.algotrack_backend_spring.service.SolvedLogService;
+import com.errorterry.algotrack_backend_spring.service.SolvedProblemCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/solve-log")
@@ -13,19 +22,93 @@ import org.springframework.web.bind.annotation.*;
 public class SolvedLogController {
 
     private final SolvedLogService solvedLogService;
+    private final SolvedLogExportService solvedLogExportService;
+    private final SolvedLogIngestQueue solvedLogIngestQueue;
+    private final SolvedProblemCache solvedProblemCache;
+    private final IdempotencyService idempotencyService;
 
     // 문제 해결 로그 기록 + 일간 목표 solve_count 증가 API
     // - 요청 : POST /api/solve-log
+    // - header : Idempotency-Key (선택, 같은 키로 재시도하면 처음 응답을 그대로 반환)
     // - body : { algorithmName, problemId, solvedDate, problemTier }
-    // - 응답 : 200 OK
+    // - 응답 : 200 OK (바로 기록) / 202 Accepted (비동기 수집 모드에서 저널에 접수)
     @PostMapping
-    public ResponseEntity<Void> recordSolved(@RequestBody SolvedLogRequestDto request) {
+    public ResponseEntity<Void> recordSolved(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @RequestBody SolvedLogRequestDto request
+    ) {
 
         Integer userId = AuthUser.getUserId();
 
-        solvedLogService.recordSolvedAndIncreaseDailyGoal(userId, request);
+        // 같은 키로 이미 응답한 재시도면 DB 접근 없이 처음 응답 반환
+        if (idempotencyKey != null) {
+            ResponseEntity<Void> replay = idempotencyService.replayCached(
+                    userId, IdempotencyService.Scope.SOLVE_LOG, idempotencyKey, request, Void.class);
+            if (replay != null) {
+                return replay;
+            }
+        }
 
-        return ResponseEntity.ok().build();
+        // 필수 값 / 알고리즘 이름 검증 (카탈로그 조회, SQL 없음) -> 이미 푼 문제여도 잘못된 요청은 400
+        solvedLogService.resolve(userId, request);
+
+        // 이미 푼 문제로 확인되면 DB 접근 없이 종료 (모르는 문제는 아래 기록 경로에서 ON CONFLICT 로 판별)
+        if (solvedProblemCache.isKnownSolved(userId, request.getProblemId())) {
+            return ResponseEntity.ok().build();
+        }
+
+        // 비동기 수집 모드면 저널 접수 후 바로 응답 (대기열이 가득 차면 바로 기록)
+        // - 접수 경로는 DB 트랜잭션이 없으므로 멱등 응답은 메모리 캐시에만 기록 (풀이 기록 자체는 ON CONFLICT 로 중복 없음)
+        if (solvedLogIngestQueue.offer(userId, request)) {
+            ResponseEntity<Void> accepted = ResponseEntity.accepted().build();
+            if (idempotencyKey != null) {
+                idempotencyService.remember(userId, IdempotencyService.Scope.SOLVE_LOG, idempotencyKey, request, accepted);
+            }
+            return accepted;
+        }
+
+        return idempotencyService.execute(
+                userId, IdempotencyService.Scope.SOLVE_LOG, idempotencyKey, request, Void.class,
+                () -> {
+                    solvedLogService.recordSolvedAndIncreaseDailyGoal(userId, request);
+                    return ResponseEntity.ok().build();
+                }
+        );
+    }
+
+    // 과거 풀이 일괄 기록 API (확장 프로그램 설치 시 가져오기, 최대 5000건)
+    // - 요청 : POST /api/solve-log/batch
+    // - body : { items[ { algorithmName, problemId, solvedDate, problemTier } ] }
+    // - 응답 : { requested, inserted, skipped, failed, results[ { index, problemId, status, message } ] }
+    @PostMapping("/batch")
+    public ResponseEntity<SolvedLogBatchResponseDto> recordSolvedBatch(@RequestBody SolvedLogBatchRequestDto request) {
+
+        Integer userId = AuthUser.getUserId();
+
+        SolvedLogBatchResponseDto response = solvedLogService.recordSolvedBatch(userId, request);
+
+        return ResponseEntity.ok(response);
+    }
+
+    // 전체 풀이 기록 내보내기 API (스트리밍)
+    // - 요청 : GET /api/solve-log/export?format=csv|ndjson (생략 시 csv)
+    // - 응답 : solve-log.csv / solve-log.ndjson 첨부 파일 (풀이 날짜 순)
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(value = "format", required = false) String format
+    ) {
+
+        // 인증 정보 / 형식 검증은 요청 스레드에서 먼저 처리
+        Integer userId = AuthUser.getUserId();
+        SolvedLogExportService.Format exportFormat = SolvedLogExportService.Format.from(format);
+
+        StreamingResponseBody body = out -> solvedLogExportService.export(userId, exportFormat, out);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"solve-log." + exportFormat.getExtension() + "\"")
+                .body(body);
     }
 
 }
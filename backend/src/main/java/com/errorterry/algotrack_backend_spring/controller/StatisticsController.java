@@ -2,37 +2,144 @@ package com.errorterry.algotrack_backend_spring.controller;
 
 
 import com.errorterry.algotrack_backend_spring.dto.MonthlyStatisticsResponseDto;
+import com.errorterry.algotrack_backend_spring.dto.StatisticsHeatmapResponseDto;
+import com.errorterry.algotrack_backend_spring.dto.StatisticsMonthlySeriesResponseDto;
+import com.errorterry.algotrack_backend_spring.dto.StatisticsRangeResponseDto;
+import com.errorterry.algotrack_backend_spring.dto.StatisticsStreakResponseDto;
 import com.errorterry.algotrack_backend_spring.security.AuthUser;
+import com.errorterry.algotrack_backend_spring.service.ActivityHeatmapCache;
+import com.errorterry.algotrack_backend_spring.service.MonthlyStatisticsCache;
+import com.errorterry.algotrack_backend_spring.service.PlatformRankingService;
 import com.errorterry.algotrack_backend_spring.service.StatisticsService;
+import com.errorterry.algotrack_backend_spring.service.UserDataVersionService;
+import com.errorterry.algotrack_backend_spring.service.UserStreakService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 
 @RestController
 @RequestMapping("/api/statistics")
 @RequiredArgsConstructor
 public class StatisticsController {
 
+    private final MonthlyStatisticsCache monthlyStatisticsCache;
     private final StatisticsService statisticsService;
+    private final ActivityHeatmapCache activityHeatmapCache;
+    private final UserStreakService userStreakService;
+    private final UserDataVersionService userDataVersionService;
+    private final PlatformRankingService platformRankingService;
 
-    // 월간 통계 + 조언 통합 응답 API
+    // 월간 통계 + 조언 통합 응답 API (사용자/월 단위 캐시)
+    // - ETag : 사용자 데이터 버전 + 해당 월 순위 분포 버전(다른 사용자 기록 반영 포함), If-None-Match 가 같으면 통계 계산 없이 304
     @GetMapping("/monthly-summary")
     public ResponseEntity<MonthlyStatisticsResponseDto> getMonthlySummary(
             @RequestParam("date")
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
-            LocalDate baseDate
+            LocalDate baseDate,
+            WebRequest webRequest
     ) {
 
         Integer userId = AuthUser.getUserId();
 
+        long version = userDataVersionService.version(userId);
+        String etag = userDataVersionService.etag(version, "monthly", platformRankingService.version(YearMonth.from(baseDate)));
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
         MonthlyStatisticsResponseDto response =
-                statisticsService.getMonthlySummary(userId, baseDate);
+                monthlyStatisticsCache.getMonthlySummary(userId, baseDate, version);
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(response);
+
+    }
+
+    // 임의 기간 통계 API (연간 리뷰 등, 최대 5년)
+    // - 예시: GET /api/statistics/range?from=2025-01-01&to=2025-12-31
+    // - 응답: 기간 요약 + weekdayStats + hexagon + monthly[ { monthStartDate, monthEndDate, totalSolved, solvedDays, averageTierScore } ]
+    @GetMapping("/range")
+    public ResponseEntity<StatisticsRangeResponseDto> getRangeSummary(
+            @RequestParam("from")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate fromDate,
+            @RequestParam("to")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate toDate
+    ) {
+
+        Integer userId = AuthUser.getUserId();
+
+        StatisticsRangeResponseDto response =
+                statisticsService.getRangeSummary(userId, fromDate, toDate);
+
+        return ResponseEntity.ok(response);
+
+    }
+
+    // 월별 추세 시계열 API (차트용, 최대 24개월)
+    // - 예시: GET /api/statistics/monthly-series?months=12 (date 생략 시 오늘이 속한 달까지)
+    // - 응답: { months[], totalSolved[], solvedDays[], averageTierScore[], topAlgorithmName[], topAlgorithmSolvedCount[] }
+    @GetMapping("/monthly-series")
+    public ResponseEntity<StatisticsMonthlySeriesResponseDto> getMonthlySeries(
+            @RequestParam(value = "months", defaultValue = "12") int months,
+            @RequestParam(value = "date", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate baseDate
+    ) {
+
+        Integer userId = AuthUser.getUserId();
+
+        StatisticsMonthlySeriesResponseDto response =
+                statisticsService.getMonthlySeries(userId, baseDate != null ? baseDate : LocalDate.now(), months);
+
+        return ResponseEntity.ok(response);
+
+    }
+
+    // 연간 활동 히트맵 API
+    // - 예시: GET /api/statistics/heatmap?year=2025
+    // - 응답: { year, startDate, totalSolved, activeDays, maxDailySolved, counts[365/366] }
+    @GetMapping("/heatmap")
+    public ResponseEntity<StatisticsHeatmapResponseDto> getHeatmap(
+            @RequestParam("year") int year
+    ) {
+
+        Integer userId = AuthUser.getUserId();
+
+        long version = userDataVersionService.version(userId);
+        StatisticsHeatmapResponseDto response =
+                activityHeatmapCache.getHeatmap(userId, year, version);
+
+        return ResponseEntity.ok(response);
+
+    }
+
+    // 연속 풀이(스트릭) API (전체 + 알고리즘별)
+    // - 예시: GET /api/statistics/streaks?date=2025-11-20 (date 생략 시 오늘)
+    // - 응답: { baseDate, overall{ lastSolvedDate, currentStreak, bestStreak }, algorithms[ { algorithmId, algorithmName, ... } ] }
+    @GetMapping("/streaks")
+    public ResponseEntity<StatisticsStreakResponseDto> getStreaks(
+            @RequestParam(value = "date", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate baseDate
+    ) {
+
+        Integer userId = AuthUser.getUserId();
+
+        StatisticsStreakResponseDto response =
+                userStreakService.getStreaks(userId, baseDate != null ? baseDate : LocalDate.now());
 
         return ResponseEntity.ok(response);
 
@@ -4,11 +4,15 @@ import com.errorterry.algotrack_backend_spring.dto.WeeklyGoalCreateRequestDto;
 import com.errorterry.algotrack_backend_spring.dto.WeeklyGoalSaveResponseDto;
 import com.errorterry.algotrack_backend_spring.dto.WeeklyGoalSummaryResponseDto;
 import com.errorterry.algotrack_backend_spring.security.AuthUser;
+import com.errorterry.algotrack_backend_spring.service.IdempotencyService;
+import com.errorterry.algotrack_backend_spring.service.UserDataVersionService;
 import com.errorterry.algotrack_backend_spring.service.WeeklyGoalService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
 
@@ -18,36 +22,50 @@ import java.time.LocalDate;
 public class WeeklyGoalController {
 
     private final WeeklyGoalService weeklyGoalService;
+    private final UserDataVersionService userDataVersionService;
+    private final IdempotencyService idempotencyService;
 
     // 주간 목표 요약 조회 API
     // - 예시: GET /api/goal/weekly-summary?weekStartDate=2025-12-01
     // - 응답: weekStartDate, algorithms[ { algorithmId, algorithmName, weeklyCount, dailyPlan[7], dailySolved[7] } ]
+    // - ETag : 사용자 데이터 버전, If-None-Match 가 같으면 조회 없이 304
     @GetMapping("/weekly-summary")
     public ResponseEntity<WeeklyGoalSummaryResponseDto> getMyWeeklyGoalSummary(
             @RequestParam("weekStartDate")
-            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate weekStartDate
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate weekStartDate,
+            WebRequest webRequest
     ) {
 
         Integer userId = AuthUser.getUserId();
 
+        String etag = userDataVersionService.etag(userDataVersionService.version(userId), "weekly");
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
         WeeklyGoalSummaryResponseDto response =
                 weeklyGoalService.getWeeklySummary(userId, weekStartDate);
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(response);
     }
 
     // 주간 목표 생성/갱신 API
+    // - header : Idempotency-Key (선택, goal_count 가 누적되므로 재시도 시 두 번 더해지지 않도록 처음 응답을 그대로 반환)
     @PostMapping("/weekly")
     public ResponseEntity<WeeklyGoalSaveResponseDto> createOrUpdateWeeklyGoal(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @RequestBody WeeklyGoalCreateRequestDto request
     ) {
 
         Integer userId = AuthUser.getUserId();
 
-        WeeklyGoalSaveResponseDto response =
-                weeklyGoalService.createOrUpdateWeeklyGoal(userId, request);
-
-        return ResponseEntity.ok(response);
+        return idempotencyService.execute(
+                userId, IdempotencyService.Scope.WEEKLY_GOAL, idempotencyKey, request, WeeklyGoalSaveResponseDto.class,
+                () -> ResponseEntity.ok(weeklyGoalService.createOrUpdateWeeklyGoal(userId, request))
+        );
 
     }
 
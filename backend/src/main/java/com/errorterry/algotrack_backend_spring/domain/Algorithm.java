@@ -30,4 +30,9 @@ public class Algorithm {
     @Column(name = "definition", nullable = false, columnDefinition = "text")
     private String definition;
 
+    // 육각형 그래프 군집 축 (HexagonAxis ordinal, 기본 IMPLEMENTATION)
+    @Enumerated(EnumType.ORDINAL)
+    @Column(name = "hexagon_axis", nullable = false, columnDefinition = "smallint")
+    private HexagonAxis hexagonAxis;
+
 }
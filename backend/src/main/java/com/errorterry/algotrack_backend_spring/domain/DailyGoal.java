@@ -56,9 +56,12 @@ public class DailyGoal {
     )
     private Integer goalCount;
 
+    // solve_count 는 DB 원자 증가(UPDATE ... SET solve_count = solve_count + n)로만 변경
+    // - updatable = false : 목표 수정 등으로 엔티티가 flush 될 때 읽어 둔 값으로 덮어쓰지 않도록
     @Column(
             name = "solve_count",
             nullable = false,
+            updatable = false,
             columnDefinition = "INT DEFAULT 0 CHECK (solve_count >= 0 and solve_count <= goal_count)"
     )
     private Integer solveCount;
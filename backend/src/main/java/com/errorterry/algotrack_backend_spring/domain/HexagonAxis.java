@@ -0,0 +1,42 @@
+package com.errorterry.algotrack_backend_spring.domain;
+
+// 육각형 그래프 군집 축
+// ordinal 이 algorithm.hexagon_axis 컬럼 값이므로 순서 변경 금지
+public enum HexagonAxis {
+    IMPLEMENTATION("IMPLEMENTATION", "구현·시뮬레이션·문자열"),
+    DATA_STRUCTURE("DATA_STRUCTURE", "자료구조·트리"),
+    GRAPH("GRAPH", "그래프·탐색·최단경로"),
+    GREEDY("GREEDY", "그리디·투 포인터"),
+    DP("DP", "DP·조합론"),
+    MATH("MATH", "수학·정수론·기하");
+
+    private static final HexagonAxis[] VALUES = values();
+
+    private final String code;
+    private final String label;
+
+    HexagonAxis(String code, String label) {
+        this.code = code;
+        this.label = label;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    // 컬럼 값(ordinal) -> 축 (범위 밖이면 IMPLEMENTATION)
+    public static HexagonAxis fromOrdinal(int ordinal) {
+        if (ordinal < 0 || ordinal >= VALUES.length) {
+            return IMPLEMENTATION;
+        }
+        return VALUES[ordinal];
+    }
+
+    public static int count() {
+        return VALUES.length;
+    }
+}
@@ -0,0 +1,57 @@
+package com.errorterry.algotrack_backend_spring.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 플랫폼 월간 리포트 (월 1일 기준 1행)
+// - 배치 작업(PlatformReportService)이 전체 행을 새로 계산해서 덮어씀
+@Entity
+@Table(name = "platform_monthly_report")
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class PlatformMonthlyReport {
+
+    @Id
+    @Column(name = "report_month", columnDefinition = "date")
+    private LocalDate reportMonth;
+
+    // 해당 월 전체 풀이 수
+    @Column(name = "total_solved", nullable = false)
+    private Long totalSolved;
+
+    // 해당 월 1문제 이상 푼 사용자 수
+    @Column(name = "active_users", nullable = false)
+    private Integer activeUsers;
+
+    // 티어별 풀이 수 (길이 8, ProblemTier 순서)
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "tier_counts", nullable = false, columnDefinition = "bigint[]")
+    private long[] tierCounts;
+
+    // 육각형 축별 풀이 수 (길이 6, HexagonAxis 순서)
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "axis_counts", nullable = false, columnDefinition = "bigint[]")
+    private long[] axisCounts;
+
+    // 육각형 축별 풀이 사용자 수 (길이 6, HexagonAxis 순서)
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "axis_users", nullable = false, columnDefinition = "int[]")
+    private int[] axisUsers;
+
+    // 집계에 사용한 사용자 id 구간 수
+    @Column(name = "partition_count", nullable = false)
+    private Integer partitionCount;
+
+    // 집계 소요 시간
+    @Column(name = "elapsed_ms", nullable = false)
+    private Long elapsedMs;
+
+    @Column(name = "generated_at", nullable = false)
+    private LocalDateTime generatedAt;
+
+}
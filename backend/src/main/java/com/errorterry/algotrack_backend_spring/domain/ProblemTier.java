@@ -0,0 +1,67 @@
+package com.errorterry.algotrack_backend_spring.domain;
+
+// 문제 티어 : 라벨 ↔ 우선순위(ordinal) / 난이도 점수 매핑
+// - solved_log 에는 solved.ac 난이도(problem_level, 0~30)를 저장하고 티어는 계산해서 사용
+// - 선언 순서 = 우선순위 (X가 가장 낮음)
+public enum ProblemTier {
+    X("X", 0),
+    UNRATED("Unrated", 0),
+    BRONZE("Bronze", 1),
+    SILVER("Silver", 2),
+    GOLD("Gold", 3),
+    PLATINUM("Platinum", 4),
+    DIAMOND("Diamond", 5),
+    RUBY("Ruby", 6);
+
+    private static final ProblemTier[] VALUES = values();
+
+    private final String label;
+    private final int score;
+
+    ProblemTier(String label, int score) {
+        this.label = label;
+        this.score = score;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    // 라벨 -> 티어 (모르는 값이면 가장 낮은 X)
+    public static ProblemTier fromLabel(String label) {
+        if (label != null) {
+            for (ProblemTier tier : VALUES) {
+                if (tier.label.equals(label)) {
+                    return tier;
+                }
+            }
+        }
+        return X;
+    }
+
+    // 난이도(0~30) -> 티어 (null / 음수면 X)
+    // - 0 = Unrated, 1~5 = Bronze, 6~10 = Silver, ..., 26~30 = Ruby
+    public static ProblemTier fromLevel(Integer level) {
+        if (level == null || level < 0) {
+            return X;
+        }
+        if (level == 0) {
+            return UNRATED;
+        }
+        return VALUES[UNRATED.ordinal() + Math.min((level + 4) / 5, RUBY.ordinal() - UNRATED.ordinal())];
+    }
+
+    // ordinal -> 티어
+    public static ProblemTier fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    public static int count() {
+        return VALUES.length;
+    }
+
+}
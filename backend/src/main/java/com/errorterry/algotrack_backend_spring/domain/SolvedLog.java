@@ -48,11 +48,17 @@ public class SolvedLog {
     @Column(name = "solved_date", nullable = false)
     private LocalDate solvedDate;
 
+    // solved.ac 난이도 (0 = Unrated, 1~30 = Bronze V ~ Ruby I, null = 정보 없음)
     @Column(
-            name = "problem_tier",
-            nullable = false,
-            columnDefinition = "text default 'X' check ( problem_tier in ('X', 'Unrated', 'Bronze', 'Silver', 'Gold', 'Platinum', 'Diamond', 'Ruby') )"
+            name = "problem_level",
+            nullable = true,
+            columnDefinition = "smallint check ( problem_level between 0 and 30 )"
     )
-    private String problemTier;
+    private Integer problemLevel;
+
+    // 티어 (problem_level 기준 계산)
+    public ProblemTier getProblemTier() {
+        return ProblemTier.fromLevel(problemLevel);
+    }
 
 }
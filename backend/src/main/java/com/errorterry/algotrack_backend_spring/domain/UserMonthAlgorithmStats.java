@@ -0,0 +1,31 @@
+package com.errorterry.algotrack_backend_spring.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+// 사용자 월간 알고리즘별 풀이 수 롤업
+@Entity
+@Table(name = "user_month_algorithm_stats")
+@IdClass(UserMonthAlgorithmStatsId.class)
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class UserMonthAlgorithmStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Integer userId;
+
+    @Id
+    @Column(name = "stat_month", columnDefinition = "date")
+    private LocalDate statMonth;
+
+    @Id
+    @Column(name = "algorithm_id")
+    private Integer algorithmId;
+
+    @Column(name = "solved_count", nullable = false)
+    private Integer solvedCount;
+
+}
@@ -0,0 +1,17 @@
+package com.errorterry.algotrack_backend_spring.domain;
+
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor @AllArgsConstructor
+@EqualsAndHashCode
+public class UserMonthAlgorithmStatsId implements Serializable {
+
+    private Integer userId;
+    private LocalDate statMonth;
+    private Integer algorithmId;
+
+}
@@ -0,0 +1,65 @@
+package com.errorterry.algotrack_backend_spring.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDate;
+
+// 사용자 월간 통계 롤업 (user_id + 월 1일 기준 1행)
+// - solved_log insert 시 같은 트랜잭션에서 증가
+// - 배열 컬럼은 1-based(PostgreSQL) / 엔티티에서는 0-based
+@Entity
+@Table(name = "user_month_stats")
+@IdClass(UserMonthStatsId.class)
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class UserMonthStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Integer userId;
+
+    @Id
+    @Column(name = "stat_month", columnDefinition = "date")
+    private LocalDate statMonth;
+
+    // 해당 월 총 풀이 수
+    @Column(name = "total_solved", nullable = false)
+    private Integer totalSolved;
+
+    // 푼 날짜 비트맵 (bit (day - 1))
+    @Column(name = "solved_day_mask", nullable = false)
+    private Integer solvedDayMask;
+
+    // 일자별 풀이 수 (길이 31)
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "day_counts", nullable = false, columnDefinition = "int[]")
+    private int[] dayCounts;
+
+    // 일자별 티어 점수 합계 (길이 31)
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "day_tier_score_sums", nullable = false, columnDefinition = "int[]")
+    private int[] dayTierScoreSums;
+
+    // 티어별 풀이 수 (길이 8, ProblemTier 순서)
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "tier_counts", nullable = false, columnDefinition = "int[]")
+    private int[] tierCounts;
+
+    // 티어 점수 합계
+    @Column(name = "tier_score_sum", nullable = false)
+    private Integer tierScoreSum;
+
+    // 육각형 축별 풀이 수 (길이 6, HexagonAxis 순서, 기록된 알고리즘 기준 -> 플랫폼 순위용)
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "axis_counts", nullable = false, columnDefinition = "int[]")
+    private int[] axisCounts;
+
+    // 문제 태그 기준 육각형 축별 풀이 수 (길이 6, HexagonAxis 순서, 여러 축 문제는 모든 축에 반영)
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "tag_axis_counts", nullable = false, columnDefinition = "int[]")
+    private int[] tagAxisCounts;
+
+}
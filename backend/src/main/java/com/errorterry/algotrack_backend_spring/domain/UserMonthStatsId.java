@@ -0,0 +1,16 @@
+package com.errorterry.algotrack_backend_spring.domain;
+
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor @AllArgsConstructor
+@EqualsAndHashCode
+public class UserMonthStatsId implements Serializable {
+
+    private Integer userId;
+    private LocalDate statMonth;
+
+}
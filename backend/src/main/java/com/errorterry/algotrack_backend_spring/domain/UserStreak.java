@@ -0,0 +1,38 @@
+package com.errorterry.algotrack_backend_spring.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+// 사용자 연속 풀이(스트릭) 상태
+// - algorithmId = 0 : 전체, 그 외 : 알고리즘별
+// - currentStreak 은 lastSolvedDate 로 끝나는 연속 일수 (오늘 기준 유지 여부는 조회 시 판단)
+@Entity
+@Table(name = "user_streak")
+@IdClass(UserStreakId.class)
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class UserStreak {
+
+    // 전체 스트릭 행의 algorithm_id
+    public static final int OVERALL_ALGORITHM_ID = 0;
+
+    @Id
+    @Column(name = "user_id")
+    private Integer userId;
+
+    @Id
+    @Column(name = "algorithm_id")
+    private Integer algorithmId;
+
+    @Column(name = "last_solved_date", nullable = false, columnDefinition = "date")
+    private LocalDate lastSolvedDate;
+
+    @Column(name = "current_streak", nullable = false)
+    private Integer currentStreak;
+
+    @Column(name = "best_streak", nullable = false)
+    private Integer bestStreak;
+
+}
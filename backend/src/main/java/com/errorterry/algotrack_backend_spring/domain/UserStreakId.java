@@ -0,0 +1,15 @@
+package com.errorterry.algotrack_backend_spring.domain;
+
+import lombok.*;
+
+import java.io.Serializable;
+
+@Getter
+@NoArgsConstructor @AllArgsConstructor
+@EqualsAndHashCode
+public class UserStreakId implements Serializable {
+
+    private Integer userId;
+    private Integer algorithmId;
+
+}
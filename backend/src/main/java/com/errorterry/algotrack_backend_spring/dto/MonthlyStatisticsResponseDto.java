@@ -6,7 +6,7 @@ import lombok.Getter;
 import java.util.List;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class MonthlyStatisticsResponseDto {
 
     // 상단 요약 카드(6개) 정보
@@ -24,4 +24,7 @@ public class MonthlyStatisticsResponseDto {
     // 목표 대비 알고리즘별 통계
     private List<StatisticsAlgorithmStatDto> algorithmStats;
 
+    // 플랫폼 내 월간 순위 (전체 + 육각형 축별)
+    private StatisticsRankingResponseDto ranking;
+
 }
@@ -0,0 +1,23 @@
+package com.errorterry.algotrack_backend_spring.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Getter
+@Builder
+public class PlatformMonthlyReportResponseDto {
+
+    private String month;                    // YYYY-MM
+    private long totalSolved;                // 전체 풀이 수
+    private int activeUsers;                 // 1문제 이상 푼 사용자 수
+    private Map<String, Long> tierSolved;    // 티어 라벨 -> 풀이 수 (ProblemTier 순서)
+    private Map<String, Long> axisSolved;    // 축 코드 -> 풀이 수 (HexagonAxis 순서)
+    private Map<String, Integer> axisUsers;  // 축 코드 -> 풀이 사용자 수
+    private int partitionCount;              // 집계 구간 수
+    private long elapsedMs;                  // 집계 소요 시간
+    private LocalDateTime generatedAt;
+
+}
@@ -0,0 +1,22 @@
+package com.errorterry.algotrack_backend_spring.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SolvedLogBatchItemResultDto {
+
+    // 항목 처리 결과
+    public static final String INSERTED = "INSERTED";                      // 새로 기록
+    public static final String ALREADY_SOLVED = "ALREADY_SOLVED";          // 이미 기록된 문제
+    public static final String DUPLICATE_IN_BATCH = "DUPLICATE_IN_BATCH";  // 같은 요청 안에서 중복 (첫 항목만 처리)
+    public static final String UNKNOWN_ALGORITHM = "UNKNOWN_ALGORITHM";    // 존재하지 않는 알고리즘
+    public static final String INVALID = "INVALID";                        // 필수 값 누락
+
+    private int index;          // 요청 items 내 위치
+    private Integer problemId;
+    private String status;
+    private String message;     // INVALID / UNKNOWN_ALGORITHM 사유 (그 외 null)
+
+}
@@ -0,0 +1,14 @@
+package com.errorterry.algotrack_backend_spring.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class SolvedLogBatchRequestDto {
+
+    // 각 항목은 단건 기록 요청과 같은 형식 { algorithmName, problemId, solvedDate, problemTier }
+    private List<SolvedLogRequestDto> items;
+
+}
@@ -0,0 +1,19 @@
+package com.errorterry.algotrack_backend_spring.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class SolvedLogBatchResponseDto {
+
+    private int requested;      // 요청 항목 수
+    private int inserted;       // 새로 기록된 항목 수
+    private int skipped;        // 이미 기록 / 요청 내 중복
+    private int failed;         // 알 수 없는 알고리즘 / 필수 값 누락
+
+    private List<SolvedLogBatchItemResultDto> results;   // 요청 순서대로
+
+}
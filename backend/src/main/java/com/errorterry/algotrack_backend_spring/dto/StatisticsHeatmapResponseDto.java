@@ -0,0 +1,19 @@
+package com.errorterry.algotrack_backend_spring.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+public class StatisticsHeatmapResponseDto {
+
+    private int year;                 // 조회 연도
+    private LocalDate startDate;      // counts[0] 에 해당하는 날짜 (1월 1일)
+    private int totalSolved;          // 연간 풀이 수
+    private int activeDays;           // 문제 푼 일수
+    private int maxDailySolved;       // 하루 최대 풀이 수 (색 단계 계산용)
+    private short[] counts;           // 일자별 풀이 수 (365/366개, index = dayOfYear - 1)
+
+}
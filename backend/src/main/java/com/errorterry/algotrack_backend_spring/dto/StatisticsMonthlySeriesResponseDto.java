@@ -0,0 +1,18 @@
+package com.errorterry.algotrack_backend_spring.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 월별 추세 차트용 시계열 (열 단위 배열, index = 월 순서)
+@Getter
+@Builder
+public class StatisticsMonthlySeriesResponseDto {
+
+    private String[] months;                  // YYYY-MM (오래된 달 -> 최근 달)
+    private int[] totalSolved;                // 월별 풀이 수
+    private int[] solvedDays;                 // 월별 문제 푼 일수
+    private Double[] averageTierScore;        // 월별 평균 티어 점수 (풀이 없으면 null)
+    private String[] topAlgorithmName;        // 월별 가장 많이 푼 알고리즘 (풀이 없으면 null)
+    private int[] topAlgorithmSolvedCount;    // 월별 가장 많이 푼 알고리즘 풀이 수
+
+}
@@ -5,7 +5,7 @@ import lombok.*;
 import java.time.LocalDate;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class StatisticsMonthlySummaryResponseDto {
 
     // 기준일 정보 (디버깅/프론트 표시용)
@@ -0,0 +1,18 @@
+package com.errorterry.algotrack_backend_spring.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+public class StatisticsRangeMonthDto {
+
+    private LocalDate monthStartDate;   // 기간에 포함된 해당 월 첫날
+    private LocalDate monthEndDate;     // 기간에 포함된 해당 월 마지막 날
+    private long totalSolved;           // 해당 월 풀이 수
+    private int solvedDays;             // 해당 월 문제 푼 일수
+    private Double averageTierScore;    // 해당 월 평균 티어 점수 (풀이 없으면 null)
+
+}
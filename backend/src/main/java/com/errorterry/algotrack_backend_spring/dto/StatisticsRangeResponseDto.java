@@ -0,0 +1,40 @@
+package com.errorterry.algotrack_backend_spring.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder
+public class StatisticsRangeResponseDto {
+
+    // 조회 기간
+    private LocalDate fromDate;
+    private LocalDate toDate;
+
+    // 기간 요약
+    private long totalSolved;
+    private double weeklyAverage;
+    private double dailyAverage;
+    private int solvedDays;
+    private int totalDays;
+    private Double averageTierScore;        // 없으면 null
+
+    private String topAlgorithmName;        // 없으면 null
+    private Long topAlgorithmSolvedCount;   // 없으면 null
+
+    private String topProblemTier;          // 없으면 null
+    private Long topProblemTierSolvedCount; // 없으면 null
+
+    // 요일별 평균 풀이 수 통계
+    private List<StatisticsWeekdayStatDto> weekdayStats;
+
+    // 알고리즘 군집 기반 육각형 그래프 데이터
+    private List<StatisticsHexagonAxisDto> hexagon;
+
+    // 월별 시계열
+    private List<StatisticsRangeMonthDto> monthly;
+
+}
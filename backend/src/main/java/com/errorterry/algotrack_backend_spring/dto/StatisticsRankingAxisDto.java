@@ -0,0 +1,14 @@
+package com.errorterry.algotrack_backend_spring.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class StatisticsRankingAxisDto {
+
+    private String axis;          // 축 코드 (IMPLEMENTATION, DATA_STRUCTURE, ...)
+    private String label;         // 축 라벨
+    private double percentile;    // 해당 축 풀이 수가 나보다 적은 사용자 비율(%)
+
+}
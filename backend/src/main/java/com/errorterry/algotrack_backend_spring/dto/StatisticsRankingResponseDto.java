@@ -0,0 +1,17 @@
+package com.errorterry.algotrack_backend_spring.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class StatisticsRankingResponseDto {
+
+    private boolean ready;                      // false 면 해당 월 분포 생성 중 (나머지 값 없음, 잠시 후 재조회)
+    private long participantCount;              // 해당 월 1문제 이상 푼 사용자 수
+    private double percentile;                  // 총 풀이 수가 나보다 적은 사용자 비율(%)
+    private List<StatisticsRankingAxisDto> axes; // 육각형 축별 비율
+
+}
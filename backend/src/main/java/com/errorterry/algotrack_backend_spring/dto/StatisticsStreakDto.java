@@ -0,0 +1,18 @@
+package com.errorterry.algotrack_backend_spring.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+public class StatisticsStreakDto {
+
+    private Integer algorithmId;        // 전체 스트릭이면 null
+    private String algorithmName;       // 전체 스트릭이면 null
+    private LocalDate lastSolvedDate;   // 마지막으로 푼 날
+    private int currentStreak;          // 현재 연속 일수 (어제/오늘 풀이가 없으면 0)
+    private int bestStreak;             // 최장 연속 일수
+
+}
@@ -0,0 +1,17 @@
+package com.errorterry.algotrack_backend_spring.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder
+public class StatisticsStreakResponseDto {
+
+    private LocalDate baseDate;                   // 현재 스트릭 판단 기준일
+    private StatisticsStreakDto overall;          // 전체 (풀이 기록 없으면 null)
+    private List<StatisticsStreakDto> algorithms; // 알고리즘별 (현재 연속 desc, 최장 연속 desc)
+
+}
@@ -0,0 +1,33 @@
+package com.errorterry.algotrack_backend_spring.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+// solved_log 일괄 기록 이벤트 (사용자 1명 기준, 1건 이상 insert 된 경우에만 발행)
+// - HTTP 일괄 기록 / 수집 대기열 묶음 기록에서 롤업 / 스트릭 증분 반영 후 발행
+@Getter
+@AllArgsConstructor
+public class SolvedLogBatchRecordedEvent {
+
+    private final Integer userId;
+
+    // 새로 기록된 풀이 날짜 (insert 된 행마다 1개)
+    private final List<LocalDate> solvedDates;
+
+    // 새로 기록된 문제 번호 (solvedDates 와 같은 순서)
+    private final List<Integer> problemIds;
+
+    // 기록된 월별 롤업 반영 전 / 후 풀이 수 (월 오름차순)
+    private final List<MonthSolvedCounts> monthCounts;
+
+    // 한 달의 {총 풀이 수, 축별 풀이 수...} (축은 HexagonAxis 순서)
+    // - before : 반영 전 값 (이번 묶음 전에 해당 월 풀이가 없었으면 null)
+    // - after : 반영 후 값 (user_month_stats 행 잠금 상태에서 읽은 값)
+    public record MonthSolvedCounts(YearMonth yearMonth, int[] before, int[] after) {
+    }
+
+}
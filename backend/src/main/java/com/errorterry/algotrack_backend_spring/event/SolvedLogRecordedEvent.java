@@ -0,0 +1,24 @@
+package com.errorterry.algotrack_backend_spring.event;
+
+import com.errorterry.algotrack_backend_spring.domain.ProblemTier;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// solved_log 신규 기록 이벤트 (insert 된 경우에만 발행)
+@Getter
+@AllArgsConstructor
+public class SolvedLogRecordedEvent {
+
+    private final Integer userId;
+    private final Integer algorithmId;
+    private final Integer problemId;
+    private final LocalDate solvedDate;
+    private final ProblemTier problemTier;
+
+    // 반영 후 해당 월 총 풀이 수 / 해당 알고리즘 축 풀이 수 (user_month_stats 기준)
+    private final int monthTotalSolved;
+    private final int monthAxisSolved;
+
+}
@@ -0,0 +1,16 @@
+package com.errorterry.algotrack_backend_spring.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// 주간 목표(daily_goal) 생성/갱신 이벤트
+@Getter
+@AllArgsConstructor
+public class WeeklyGoalChangedEvent {
+
+    private final Integer userId;
+    private final LocalDate weekStartDate;
+
+}
@@ -0,0 +1,30 @@
+package com.errorterry.algotrack_backend_spring.repository;
+
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.ServerErrorMessage;
+import org.springframework.dao.DataIntegrityViolationException;
+
+// DataIntegrityViolationException 에서 위반된 제약 조건 이름 확인
+// - 원인 체인의 PSQLException(서버 오류 메시지)에서 제약 조건 이름을 읽음 (JDBC / JPA 경로 공통)
+// - 특정 FK 위반만 "존재하지 않는 ..." 으로 바꾸고 나머지(unique / check 등)는 그대로 다시 던질 때 사용
+public final class ConstraintViolations {
+
+    private ConstraintViolations() {
+    }
+
+    // 위반된 제약 조건 이름 (알 수 없으면 null)
+    public static String constraintName(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof PSQLException psqlException) {
+                ServerErrorMessage message = psqlException.getServerErrorMessage();
+                return message != null ? message.getConstraint() : null;
+            }
+        }
+        return null;
+    }
+
+    // 위반된 제약 조건이 constraintName 인지 여부
+    public static boolean isViolated(DataIntegrityViolationException e, String constraintName) {
+        return constraintName.equals(constraintName(e));
+    }
+}
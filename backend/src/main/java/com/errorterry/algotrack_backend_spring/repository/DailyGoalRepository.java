@@ -2,6 +2,9 @@ package com.errorterry.algotrack_backend_spring.repository;
 
 import com.errorterry.algotrack_backend_spring.domain.DailyGoal;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -12,13 +15,6 @@ public interface DailyGoalRepository extends JpaRepository<DailyGoal, Integer> {
     // 특정 weekly_goal에 속한 일간 목표 전체 조회
     List<DailyGoal> findByWeeklyGoalWeeklyGoalId(Integer weeklyGoalId);
 
-    // weekly_goal_id + algorithm_id + goal_date 기준 단일 일간 목표 조회
-    Optional<DailyGoal> findByWeeklyGoalWeeklyGoalIdAndAlgorithmAlgorithmIdAndGoalDate(
-            Integer weeklyGoalId,
-            Integer algorithmId,
-            LocalDate goalDate
-    );
-
     // user_id + algorithm_id + goal_date 기준 단일 일간 목표 조회
     Optional<DailyGoal> findByWeeklyGoalUserUserIdAndAlgorithmAlgorithmIdAndGoalDate(
             Integer userId,
@@ -26,6 +22,24 @@ public interface DailyGoalRepository extends JpaRepository<DailyGoal, Integer> {
             LocalDate goalDate
     );
 
+    // user_id + algorithm_id + goal_date 일간 목표 solve_count +1 (목표가 없으면 0행)
+    // - 행 잠금 상태에서 증가하므로 동시 기록에도 누락 없음
+    @Modifying
+    @Query(value = """
+        UPDATE daily_goal dg
+        SET solve_count = dg.solve_count + 1
+        FROM weekly_goal wg
+        WHERE wg.user_id = :userId
+          AND dg.weekly_goal_id = wg.weekly_goal_id
+          AND dg.algorithm_id = :algorithmId
+          AND dg.goal_date = :goalDate
+    """, nativeQuery = true)
+    int increaseSolveCount(
+            @Param("userId") Integer userId,
+            @Param("algorithmId") Integer algorithmId,
+            @Param("goalDate") LocalDate goalDate
+    );
+
     // 특정 유저의 월간 daily_goal 조회
     List<DailyGoal> findByWeeklyGoalUserUserIdAndGoalDateBetween(
             Integer userId,
@@ -33,4 +47,23 @@ public interface DailyGoalRepository extends JpaRepository<DailyGoal, Integer> {
             LocalDate endDate
     );
 
+    // 특정 유저의 월간 알고리즘별 목표/해결 합계 (엔티티 로딩 없이 집계)
+    interface AlgorithmGoalSumProjection {
+        String getAlgorithmName();
+        Long getGoalCount();
+        Long getSolveCount();
+    }
+
+    @Query("""
+        SELECT a.algorithmName AS algorithmName, SUM(dg.goalCount) AS goalCount, SUM(dg.solveCount) AS solveCount
+        FROM DailyGoal dg JOIN dg.algorithm a
+        WHERE dg.weeklyGoal.user.userId = :userId AND dg.goalDate BETWEEN :startDate AND :endDate
+        GROUP BY a.algorithmName
+    """)
+    List<AlgorithmGoalSumProjection> sumGoalsByAlgorithm(
+            @Param("userId") Integer userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
 }
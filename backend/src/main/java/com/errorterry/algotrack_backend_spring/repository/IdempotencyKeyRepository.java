@@ -0,0 +1,71 @@
+package com.errorterry.algotrack_backend_spring.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 멱등 키 저장소 (JDBC)
+// - 호출한 쪽 트랜잭션(같은 커넥션)에 참여
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyKeyRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 저장된 응답 (statusCode 가 null 이면 아직 응답 저장 전)
+    public record StoredResponse(long requestHash, Integer statusCode, String responseBody) {
+    }
+
+    // 키 선점 (새 키 또는 만료된 키면 true)
+    // - 같은 키를 다른 트랜잭션이 선점 중이면 그 트랜잭션이 끝날 때까지 대기 (unique 인덱스)
+    public boolean claim(int userId, int scope, String key, long requestHash, LocalDateTime expiresAt) {
+        List<Integer> claimed = jdbcTemplate.query("""
+                INSERT INTO idempotency_key (user_id, scope, idem_key, request_hash, expires_at)
+                VALUES (?, ?, ?, ?, ?)
+                ON CONFLICT (user_id, scope, idem_key) DO UPDATE
+                SET request_hash = EXCLUDED.request_hash,
+                    status_code = NULL,
+                    response_body = NULL,
+                    expires_at = EXCLUDED.expires_at
+                WHERE idempotency_key.expires_at < now()
+                RETURNING 1
+                """,
+                (rs, rowNum) -> rs.getInt(1),
+                userId, scope, key, requestHash, Timestamp.valueOf(expiresAt));
+        return !claimed.isEmpty();
+    }
+
+    public StoredResponse find(int userId, int scope, String key) {
+        List<StoredResponse> rows = jdbcTemplate.query("""
+                SELECT request_hash, status_code, response_body
+                FROM idempotency_key
+                WHERE user_id = ? AND scope = ? AND idem_key = ?
+                """,
+                (rs, rowNum) -> new StoredResponse(
+                        rs.getLong(1),
+                        rs.getObject(2, Integer.class),
+                        rs.getString(3)
+                ),
+                userId, scope, key);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    // 선점한 키에 응답 저장
+    public void saveResponse(int userId, int scope, String key, int statusCode, String responseBody) {
+        jdbcTemplate.update("""
+                UPDATE idempotency_key
+                SET status_code = ?, response_body = ?
+                WHERE user_id = ? AND scope = ? AND idem_key = ?
+                """,
+                statusCode, responseBody, userId, scope, key);
+    }
+
+    // 만료된 키 삭제
+    public int deleteExpired() {
+        return jdbcTemplate.update("DELETE FROM idempotency_key WHERE expires_at < now()");
+    }
+}
@@ -0,0 +1,9 @@
+package com.errorterry.algotrack_backend_spring.repository;
+
+import com.errorterry.algotrack_backend_spring.domain.PlatformMonthlyReport;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+
+public interface PlatformMonthlyReportRepository extends JpaRepository<PlatformMonthlyReport, LocalDate> {
+}
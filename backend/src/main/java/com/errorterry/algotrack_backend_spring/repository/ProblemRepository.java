@@ -0,0 +1,50 @@
+package com.errorterry.algotrack_backend_spring.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+// 문제 카탈로그 조회 (JDBC)
+// - 태그 집합은 BIGINT 4개 (tag_bits_0 ~ 3) 그대로 전달, 엔티티를 만들지 않음
+@Repository
+@RequiredArgsConstructor
+public class ProblemRepository {
+
+    private static final int FETCH_SIZE = 5000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 행 단위 콜백 (태그 집합 = BIGINT 4개)
+    @FunctionalInterface
+    public interface ProblemTagRowHandler {
+        void handle(int problemId, long tagBits0, long tagBits1, long tagBits2, long tagBits3);
+    }
+
+    // 전체 문제 태그 스트리밍 (problem_id 오름차순)
+    @Transactional(readOnly = true)
+    public void streamAllTags(ProblemTagRowHandler handler) {
+        RowCallbackHandler callback = rs -> handler.handle(
+                rs.getInt(1),
+                rs.getLong(2),
+                rs.getLong(3),
+                rs.getLong(4),
+                rs.getLong(5)
+        );
+
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement("""
+                    SELECT problem_id, tag_bits_0, tag_bits_1, tag_bits_2, tag_bits_3
+                    FROM problem
+                    ORDER BY problem_id
+                    """, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(FETCH_SIZE);
+            return ps;
+        }, callback);
+    }
+
+}
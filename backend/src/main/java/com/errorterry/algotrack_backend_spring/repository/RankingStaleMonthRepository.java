@@ -0,0 +1,37 @@
+package com.errorterry.algotrack_backend_spring.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+
+// 순위 분포 재생성이 필요한 월 표시 조회 (가져오기 CLI 가 병합 트랜잭션에서 기록)
+@Repository
+@RequiredArgsConstructor
+public class RankingStaleMonthRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // fromMonth 이후 월의 표시 시각
+    public Map<YearMonth, LocalDateTime> findMarkedSince(YearMonth fromMonth) {
+        Map<YearMonth, LocalDateTime> marked = new HashMap<>();
+        RowCallbackHandler callback = rs -> marked.put(
+                YearMonth.from(rs.getObject(1, LocalDate.class)),
+                rs.getObject(2, LocalDateTime.class)
+        );
+
+        jdbcTemplate.query("""
+                SELECT stat_month, marked_at
+                FROM ranking_stale_month
+                WHERE stat_month >= ?
+                """, callback, fromMonth.atDay(1));
+        return marked;
+    }
+
+}
@@ -0,0 +1,170 @@
+package com.errorterry.algotrack_backend_spring.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// solved_log 일괄 기록 (JDBC)
+// - 항목별 값을 배열 파라미터로 넘기고 unnest 로 펼쳐서 SQL 1회로 처리
+// - 호출한 쪽 트랜잭션(같은 커넥션)에 참여
+@Repository
+@RequiredArgsConstructor
+public class SolvedLogBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // solved_log 1건 insert (user_id + problem_id 가 이미 있으면 건너뜀)
+    // - insert 되면 true, 이미 기록된 문제면 false
+    // - 중복 요청이 동시에 들어와도 unique 위반 대신 한쪽만 insert (ON CONFLICT DO NOTHING)
+    // - 쓰기 SQL 이라 JPA 조회 메서드(@Query) 대신 JDBC 로 실행
+    // - users FK 위반(fk_solved_log_users)은 DataIntegrityViolationException 그대로 전달
+    public boolean insertIfAbsent(
+            Integer userId,
+            Integer algorithmId,
+            Integer problemId,
+            LocalDate solvedDate,
+            Integer problemLevel
+    ) {
+        List<Integer> inserted = jdbcTemplate.queryForList("""
+                INSERT INTO solved_log (user_id, algorithm_id, problem_id, solved_date, problem_level)
+                VALUES (?, ?, ?, ?, ?::smallint)
+                ON CONFLICT (user_id, problem_id) DO NOTHING
+                RETURNING problem_id
+                """, Integer.class, userId, algorithmId, problemId, solvedDate, problemLevel);
+        return !inserted.isEmpty();
+    }
+
+    // solved_log 일괄 insert (user_id + problem_id 가 이미 있으면 건너뜀)
+    // - 실제로 insert 된 problem_id 목록 반환
+    // - 배열은 모두 같은 길이, problemLevels 원소는 null 가능 (난이도 정보 없음)
+    public Set<Integer> insertIgnoringSolved(
+            Integer userId,
+            Integer[] algorithmIds,
+            Integer[] problemIds,
+            String[] solvedDates,
+            Integer[] problemLevels
+    ) {
+        Set<Integer> inserted = new HashSet<>();
+        RowCallbackHandler callback = rs -> inserted.add(rs.getInt(1));
+
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement("""
+                    INSERT INTO solved_log (user_id, algorithm_id, problem_id, solved_date, problem_level)
+                    SELECT ?, t.algorithm_id, t.problem_id, t.solved_date, t.problem_level
+                    FROM unnest(?::int[], ?::int[], ?::date[], ?::smallint[])
+                         AS t(algorithm_id, problem_id, solved_date, problem_level)
+                    ON CONFLICT (user_id, problem_id) DO NOTHING
+                    RETURNING problem_id
+                    """);
+            ps.setInt(1, userId);
+            ps.setArray(2, con.createArrayOf("int4", algorithmIds));
+            ps.setArray(3, con.createArrayOf("int4", problemIds));
+            ps.setArray(4, con.createArrayOf("text", solvedDates));
+            ps.setArray(5, con.createArrayOf("int4", problemLevels));
+            return ps;
+        }, callback);
+
+        return inserted;
+    }
+
+    // (알고리즘, 날짜)별 풀이 수만큼 daily_goal.solve_count 증가 (목표가 있는 날만)
+    // - (algorithmIds[i], goalDates[i]) 는 서로 겹치지 않아야 함
+    public int increaseDailyGoals(
+            Integer userId,
+            Integer[] algorithmIds,
+            String[] goalDates,
+            Integer[] solvedCounts
+    ) {
+        return jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement("""
+                    UPDATE daily_goal dg
+                    SET solve_count = dg.solve_count + t.solved_count
+                    FROM weekly_goal wg,
+                         unnest(?::int[], ?::date[], ?::int[]) AS t(algorithm_id, goal_date, solved_count)
+                    WHERE wg.user_id = ?
+                      AND dg.weekly_goal_id = wg.weekly_goal_id
+                      AND dg.algorithm_id = t.algorithm_id
+                      AND dg.goal_date = t.goal_date
+                    """);
+            ps.setArray(1, con.createArrayOf("int4", algorithmIds));
+            ps.setArray(2, con.createArrayOf("text", goalDates));
+            ps.setArray(3, con.createArrayOf("int4", solvedCounts));
+            ps.setInt(4, userId);
+            return ps;
+        });
+    }
+
+    // (user_id, problem_id) -> 단일 long 키 (insert 결과 대조용)
+    public static long solveKey(int userId, int problemId) {
+        return ((long) userId << 32) | (problemId & 0xFFFFFFFFL);
+    }
+
+    // 여러 사용자 solved_log 일괄 insert (user_id + problem_id 가 이미 있으면 건너뜀)
+    // - 실제로 insert 된 (user_id, problem_id) 를 solveKey 로 반환
+    // - 배열은 모두 같은 길이, problemLevels 원소는 null 가능 (난이도 정보 없음)
+    public Set<Long> insertIgnoringSolvedForUsers(
+            Integer[] userIds,
+            Integer[] algorithmIds,
+            Integer[] problemIds,
+            String[] solvedDates,
+            Integer[] problemLevels
+    ) {
+        Set<Long> inserted = new HashSet<>();
+        RowCallbackHandler callback = rs -> inserted.add(solveKey(rs.getInt(1), rs.getInt(2)));
+
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement("""
+                    INSERT INTO solved_log (user_id, algorithm_id, problem_id, solved_date, problem_level)
+                    SELECT t.user_id, t.algorithm_id, t.problem_id, t.solved_date, t.problem_level
+                    FROM unnest(?::int[], ?::int[], ?::int[], ?::date[], ?::smallint[])
+                         AS t(user_id, algorithm_id, problem_id, solved_date, problem_level)
+                    ON CONFLICT (user_id, problem_id) DO NOTHING
+                    RETURNING user_id, problem_id
+                    """);
+            ps.setArray(1, con.createArrayOf("int4", userIds));
+            ps.setArray(2, con.createArrayOf("int4", algorithmIds));
+            ps.setArray(3, con.createArrayOf("int4", problemIds));
+            ps.setArray(4, con.createArrayOf("text", solvedDates));
+            ps.setArray(5, con.createArrayOf("int4", problemLevels));
+            return ps;
+        }, callback);
+
+        return inserted;
+    }
+
+    // (사용자, 알고리즘, 날짜)별 풀이 수만큼 daily_goal.solve_count 증가 (목표가 있는 날만)
+    // - (userIds[i], algorithmIds[i], goalDates[i]) 는 서로 겹치지 않아야 함
+    public int increaseDailyGoalsForUsers(
+            Integer[] userIds,
+            Integer[] algorithmIds,
+            String[] goalDates,
+            Integer[] solvedCounts
+    ) {
+        return jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement("""
+                    UPDATE daily_goal dg
+                    SET solve_count = dg.solve_count + t.solved_count
+                    FROM weekly_goal wg,
+                         unnest(?::int[], ?::int[], ?::date[], ?::int[])
+                         AS t(user_id, algorithm_id, goal_date, solved_count)
+                    WHERE wg.user_id = t.user_id
+                      AND dg.weekly_goal_id = wg.weekly_goal_id
+                      AND dg.algorithm_id = t.algorithm_id
+                      AND dg.goal_date = t.goal_date
+                    """);
+            ps.setArray(1, con.createArrayOf("int4", userIds));
+            ps.setArray(2, con.createArrayOf("int4", algorithmIds));
+            ps.setArray(3, con.createArrayOf("text", goalDates));
+            ps.setArray(4, con.createArrayOf("int4", solvedCounts));
+            return ps;
+        });
+    }
+
+}
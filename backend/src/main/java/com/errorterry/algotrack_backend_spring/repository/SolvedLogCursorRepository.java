@@ -0,0 +1,307 @@
+package com.errorterry.algotrack_backend_spring.repository;
+
+import com.errorterry.algotrack_backend_spring.domain.ProblemTier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+// solved_log 전방향 커서 조회 (JDBC)
+// - 트랜잭션 안에서 호출해야 PostgreSQL이 fetchSize 단위로 끊어서 전송 (autocommit off)
+// - 행마다 엔티티/리스트를 만들지 않고 콜백으로 바로 전달
+@Repository
+@RequiredArgsConstructor
+public class SolvedLogCursorRepository {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 행 단위 콜백 (solved_date, problem_id, algorithm_id, problem_level : 정보 없으면 -1)
+    @FunctionalInterface
+    public interface SolvedLogRowHandler {
+        void handle(LocalDate solvedDate, int problemId, int algorithmId, int problemLevel);
+    }
+
+    // 사용자별 육각형 축 풀이 수 콜백 (user_id 순으로 전달)
+    @FunctionalInterface
+    public interface UserAxisCountHandler {
+        void handle(int userId, int hexagonAxis, int solvedCount);
+    }
+
+    // 사용자 x 알고리즘 x 난이도 풀이 수 콜백 (user_id 순으로 전달, 난이도 정보 없으면 -1)
+    @FunctionalInterface
+    public interface UserAlgorithmLevelCountHandler {
+        void handle(int userId, int algorithmId, int problemLevel, int solvedCount);
+    }
+
+    // 월별 시계열 집계 행 콜백 (monthKey = year * 12 + month - 1)
+    // - kind MONTH     : key = 0,                         solvedDays = 해당 월 푼 일수
+    // - kind ALGORITHM : key = algorithm_id
+    // - kind LEVEL     : key = problem_level (정보 없으면 -1)
+    @FunctionalInterface
+    public interface MonthlySeriesRowHandler {
+        int MONTH = 0;
+        int ALGORITHM = 1;
+        int LEVEL = 2;
+
+        void handle(int monthKey, int kind, int key, int solvedCount, int solvedDays);
+    }
+
+    // 내보내기 행 콜백 (problem_id, solved_date, algorithm_name, problem_level : 정보 없으면 -1)
+    @FunctionalInterface
+    public interface SolvedLogExportRowHandler {
+        void handle(int problemId, LocalDate solvedDate, String algorithmName, int problemLevel);
+    }
+
+    // (일, 티어, 풀이 수) 압축 값 : count << 13 | dayOfMonth << 8 | tierOrdinal
+    // - count 19비트 (524,287 까지), 범위를 넘으면 잘라내지 않고 예외
+    public static final class DayTierCount {
+
+        private static final int COUNT_SHIFT = 13;
+        public static final int MAX_COUNT = (1 << (Integer.SIZE - COUNT_SHIFT)) - 1;
+
+        private DayTierCount() {
+        }
+
+        public static int pack(int dayOfMonth, int tierOrdinal, int count) {
+            if (count < 0 || count > MAX_COUNT) {
+                throw new IllegalStateException("(일, 티어) 풀이 수 범위 초과 : " + count);
+            }
+            return count << COUNT_SHIFT | dayOfMonth << 8 | tierOrdinal;
+        }
+
+        public static int dayOfMonth(int packed) {
+            return (packed >>> 8) & 0x1F;
+        }
+
+        public static int tierOrdinal(int packed) {
+            return packed & 0xFF;
+        }
+
+        public static int count(int packed) {
+            return packed >>> COUNT_SHIFT;
+        }
+    }
+
+    // 특정 사용자 / 기간 (일, 티어)별 풀이 수 (한 달 이내 기간)
+    // - 티어는 SQL 에서 계산해서 묶음 (ProblemTier.fromLevel 과 같은 규칙 -> 일 x 티어 최대 31 x 8 행)
+    // - 티어 추세 계산처럼 알고리즘이 필요 없는 경우 solved_log 행 대신 사용
+    public int[] findDayTierCounts(Integer userId, LocalDate startDate, LocalDate endDate) {
+        ResultSetExtractor<int[]> extractor = rs -> {
+            int[] packed = new int[31 * ProblemTier.count()];
+            int size = 0;
+            while (rs.next()) {
+                if (size == packed.length) {
+                    packed = Arrays.copyOf(packed, size * 2);
+                }
+                packed[size++] = DayTierCount.pack(
+                        rs.getInt(1),
+                        ProblemTier.fromOrdinal(rs.getInt(2)).ordinal(),
+                        rs.getInt(3)
+                );
+            }
+            return Arrays.copyOf(packed, size);
+        };
+
+        return jdbcTemplate.query("""
+                SELECT EXTRACT(DAY FROM solved_date)::INT AS solved_day,
+                       CASE
+                           WHEN problem_level IS NULL OR problem_level < 0 THEN 0
+                           WHEN problem_level = 0 THEN 1
+                           ELSE 1 + LEAST((problem_level + 4) / 5, 6)
+                       END AS tier_ordinal,
+                       COUNT(*)::INT
+                FROM solved_log
+                WHERE user_id = ? AND solved_date BETWEEN ? AND ?
+                GROUP BY solved_day, tier_ordinal
+                """, extractor, userId, startDate, endDate);
+    }
+
+    // 특정 사용자 / 기간 solved_log 스트리밍
+    public void streamByUserAndSolvedDateBetween(
+            Integer userId,
+            LocalDate startDate,
+            LocalDate endDate,
+            SolvedLogRowHandler handler
+    ) {
+        RowCallbackHandler callback = rs -> handler.handle(
+                rs.getObject(1, LocalDate.class),
+                rs.getInt(2),
+                rs.getInt(3),
+                rs.getInt(4)
+        );
+
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement("""
+                    SELECT solved_date, problem_id, algorithm_id, COALESCE(problem_level, -1)
+                    FROM solved_log
+                    WHERE user_id = ? AND solved_date BETWEEN ? AND ?
+                    """, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(FETCH_SIZE);
+            ps.setObject(1, userId);
+            ps.setObject(2, startDate);
+            ps.setObject(3, endDate);
+            return ps;
+        }, callback);
+    }
+
+    // 기간 내 전체 사용자 축별 풀이 수 스트리밍 (플랫폼 순위 분포 재생성용)
+    // - 사용자 x 축 단위로 묶어서 전송 (최대 사용자 수 x 6 행)
+    @Transactional(readOnly = true)
+    public void streamUserAxisCountsBySolvedDateBetween(
+            LocalDate startDate,
+            LocalDate endDate,
+            UserAxisCountHandler handler
+    ) {
+        RowCallbackHandler callback = rs -> handler.handle(
+                rs.getInt(1),
+                rs.getInt(2),
+                rs.getInt(3)
+        );
+
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement("""
+                    SELECT sl.user_id, a.hexagon_axis, COUNT(*)
+                    FROM solved_log sl
+                    JOIN algorithm a ON a.algorithm_id = sl.algorithm_id
+                    WHERE sl.solved_date BETWEEN ? AND ?
+                    GROUP BY sl.user_id, a.hexagon_axis
+                    ORDER BY sl.user_id
+                    """, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(FETCH_SIZE);
+            ps.setObject(1, startDate);
+            ps.setObject(2, endDate);
+            return ps;
+        }, callback);
+    }
+
+    // 특정 사용자 전체 풀이 기록 스트리밍 (내보내기용, 풀이 날짜 순)
+    // - 서버 측 커서로 fetchSize 단위 전송 -> 기록 수와 관계없이 메모리 일정
+    @Transactional(readOnly = true)
+    public void streamExportRowsByUserId(Integer userId, SolvedLogExportRowHandler handler) {
+        RowCallbackHandler callback = rs -> handler.handle(
+                rs.getInt(1),
+                rs.getObject(2, LocalDate.class),
+                rs.getString(3),
+                rs.getInt(4)
+        );
+
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement("""
+                    SELECT sl.problem_id, sl.solved_date, a.algorithm_name, COALESCE(sl.problem_level, -1)
+                    FROM solved_log sl
+                    JOIN algorithm a ON a.algorithm_id = sl.algorithm_id
+                    WHERE sl.user_id = ?
+                    ORDER BY sl.solved_date, sl.solved_log_id
+                    """, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(FETCH_SIZE);
+            ps.setObject(1, userId);
+            return ps;
+        }, callback);
+    }
+
+    // 사용자가 푼 problem_id 전체 (중복 제출 판별 비트맵 적재용)
+    // - (user_id, problem_id) unique 인덱스만 읽음
+    public void streamProblemIdsByUserId(Integer userId, IntConsumer consumer) {
+        RowCallbackHandler callback = rs -> consumer.accept(rs.getInt(1));
+
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                    "SELECT problem_id FROM solved_log WHERE user_id = ?",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(FETCH_SIZE);
+            ps.setObject(1, userId);
+            return ps;
+        }, callback);
+    }
+
+    // 사용자 id 범위 [min, max] (사용자가 없으면 min > max)
+    public int[] findUserIdRange() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MIN(user_id), 0), COALESCE(MAX(user_id), -1) FROM users",
+                (rs, rowNum) -> new int[]{rs.getInt(1), rs.getInt(2)}
+        );
+    }
+
+    // 사용자 id 구간 [fromUserId, toUserId] / 기간 내 사용자 x 알고리즘 x 난이도 풀이 수 스트리밍
+    // - 플랫폼 리포트 구간 작업마다 별도 읽기 전용 트랜잭션(커넥션)으로 실행
+    // - queryTimeoutSeconds 초과 시 DB 에서 쿼리 취소
+    @Transactional(readOnly = true)
+    public void streamUserAlgorithmLevelCounts(
+            int fromUserId,
+            int toUserId,
+            LocalDate startDate,
+            LocalDate endDate,
+            int queryTimeoutSeconds,
+            UserAlgorithmLevelCountHandler handler
+    ) {
+        RowCallbackHandler callback = rs -> handler.handle(
+                rs.getInt(1),
+                rs.getInt(2),
+                rs.getInt(3),
+                rs.getInt(4)
+        );
+
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement("""
+                    SELECT user_id, algorithm_id, COALESCE(problem_level, -1), COUNT(*)::INT
+                    FROM solved_log
+                    WHERE user_id BETWEEN ? AND ? AND solved_date BETWEEN ? AND ?
+                    GROUP BY user_id, algorithm_id, problem_level
+                    ORDER BY user_id
+                    """, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(FETCH_SIZE);
+            ps.setQueryTimeout(queryTimeoutSeconds);
+            ps.setInt(1, fromUserId);
+            ps.setInt(2, toUserId);
+            ps.setObject(3, startDate);
+            ps.setObject(4, endDate);
+            return ps;
+        }, callback);
+    }
+
+    // 특정 사용자 / 기간 월별 (전체, 알고리즘별, 난이도별) 풀이 수를 GROUPING SETS 쿼리 1회로 조회
+    public void findMonthlySeries(
+            Integer userId,
+            LocalDate startDate,
+            LocalDate endDate,
+            MonthlySeriesRowHandler handler
+    ) {
+        RowCallbackHandler callback = rs -> handler.handle(
+                rs.getInt(1),
+                rs.getInt(2),
+                rs.getInt(3),
+                rs.getInt(4),
+                rs.getInt(5)
+        );
+
+        jdbcTemplate.query("""
+                SELECT month_key,
+                       CASE WHEN GROUPING(algorithm_id) = 0 THEN 1
+                            WHEN GROUPING(problem_level) = 0 THEN 2
+                            ELSE 0 END,
+                       CASE WHEN GROUPING(algorithm_id) = 0 THEN algorithm_id
+                            WHEN GROUPING(problem_level) = 0 THEN COALESCE(problem_level, -1)
+                            ELSE 0 END,
+                       COUNT(*)::INT,
+                       COUNT(DISTINCT solved_date)::INT
+                FROM (
+                    SELECT (EXTRACT(YEAR FROM solved_date) * 12 + EXTRACT(MONTH FROM solved_date) - 1)::INT AS month_key,
+                           algorithm_id, problem_level, solved_date
+                    FROM solved_log
+                    WHERE user_id = ? AND solved_date BETWEEN ? AND ?
+                ) t
+                GROUP BY GROUPING SETS ((month_key), (month_key, algorithm_id), (month_key, problem_level))
+                """, callback, userId, startDate, endDate);
+    }
+
+}
@@ -0,0 +1,146 @@
+package com.errorterry.algotrack_backend_spring.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+// 풀이 기록 대량 가져오기 (COPY -> 임시 스테이징 테이블 -> solved_log 병합)
+// - 스테이징은 트랜잭션 종료 시 삭제되는 TEMP 테이블이라 반드시 트랜잭션 안에서 호출 (같은 커넥션)
+// - 파일은 COPY 프로토콜로 그대로 흘려보내므로 JVM 메모리는 버퍼 크기만 사용
+@Repository
+@RequiredArgsConstructor
+public class SolvedLogImportRepository {
+
+    private static final int COPY_BUFFER_SIZE = 1 << 16;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+
+    // 병합 결과 사용자별 insert 건수 콜백 (user_id 순)
+    @FunctionalInterface
+    public interface UserInsertedHandler {
+        void handle(int userId, int insertedCount);
+    }
+
+    // 스테이징 테이블 생성
+    // - defaultUserId 가 있으면 user_id 컬럼 기본값으로 사용 (사용자 1명의 내보내기 파일)
+    public void createStaging(Integer defaultUserId) {
+        jdbcTemplate.execute("""
+                CREATE TEMP TABLE solved_log_import (
+                    user_id INT %s,
+                    problem_id INT NOT NULL,
+                    solved_date DATE NOT NULL,
+                    algorithm_name TEXT NOT NULL,
+                    problem_level SMALLINT,
+                    problem_tier TEXT
+                ) ON COMMIT DROP
+                """.formatted(defaultUserId != null ? "NOT NULL DEFAULT " + defaultUserId : "NOT NULL"));
+    }
+
+    // CSV(헤더 1줄) 를 스테이징 테이블로 COPY, 적재된 행 수 반환
+    // - withUserId = false 면 내보내기 형식 (problemId,solvedDate,algorithmName,problemLevel,problemTier)
+    // - withUserId = true 면 앞에 userId 컬럼이 추가된 형식
+    // - problemLevel 빈 값은 NULL (난이도 정보 없음)
+    public long copyIn(Reader reader, boolean withUserId) throws IOException {
+        String columns = (withUserId ? "user_id, " : "")
+                + "problem_id, solved_date, algorithm_name, problem_level, problem_tier";
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(
+                    "COPY solved_log_import (" + columns + ") FROM STDIN WITH (FORMAT csv, HEADER true)",
+                    reader,
+                    COPY_BUFFER_SIZE
+            );
+        } catch (SQLException e) {
+            throw new IllegalArgumentException("가져오기 파일 형식 오류 : " + e.getMessage(), e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    // 적재 후 통계 갱신 (TEMP 테이블은 autovacuum 대상이 아니라 병합 실행 계획용으로 직접 수집)
+    public void analyzeStaging() {
+        jdbcTemplate.execute("ANALYZE solved_log_import");
+    }
+
+    // 알고리즘 이름이 없어서 건너뛸 행 수
+    public long countUnknownAlgorithms() {
+        return jdbcTemplate.queryForObject("""
+                SELECT count(*)
+                FROM solved_log_import s
+                WHERE NOT EXISTS (SELECT 1 FROM algorithm a WHERE a.algorithm_name = s.algorithm_name)
+                """, Long.class);
+    }
+
+    // 존재하지 않는 사용자라서 건너뛸 행 수
+    public long countUnknownUsers() {
+        return jdbcTemplate.queryForObject("""
+                SELECT count(*)
+                FROM solved_log_import s
+                WHERE NOT EXISTS (SELECT 1 FROM users u WHERE u.user_id = s.user_id)
+                """, Long.class);
+    }
+
+    // 스테이징 -> solved_log 병합 + daily_goal.solve_count 반영 (SQL 1회)
+    // - algorithm_name 은 algorithm 테이블 조인으로 id 변환 (없는 이름 / 없는 사용자는 건너뜀)
+    // - 파일 안에서 같은 (사용자, 문제) 가 여러 번 나오면 가장 이른 풀이일 1건만 사용
+    // - 이미 기록된 문제는 ON CONFLICT DO NOTHING (같은 파일을 다시 가져와도 결과 동일)
+    // - 실제로 insert 된 행만 (사용자, 알고리즘, 날짜)별로 묶어 solve_count 증가 (목표가 있는 날만)
+    // - insert 된 풀이의 월은 ranking_stale_month 에 표시 (서버가 해당 월 순위 분포 재생성)
+    // - 사용자별 insert 건수를 콜백으로 전달, 반환값은 전체 insert 건수
+    public int merge(UserInsertedHandler handler) {
+        int[] total = new int[1];
+        RowCallbackHandler callback = rs -> {
+            int inserted = rs.getInt(2);
+            total[0] += inserted;
+            handler.handle(rs.getInt(1), inserted);
+        };
+
+        jdbcTemplate.query("""
+                WITH inserted AS (
+                    INSERT INTO solved_log (user_id, algorithm_id, problem_id, solved_date, problem_level)
+                    SELECT DISTINCT ON (s.user_id, s.problem_id)
+                           s.user_id, a.algorithm_id, s.problem_id, s.solved_date, s.problem_level
+                    FROM solved_log_import s
+                    JOIN algorithm a ON a.algorithm_name = s.algorithm_name
+                    JOIN users u ON u.user_id = s.user_id
+                    ORDER BY s.user_id, s.problem_id, s.solved_date
+                    ON CONFLICT (user_id, problem_id) DO NOTHING
+                    RETURNING user_id, algorithm_id, solved_date
+                ),
+                goal_increments AS (
+                    UPDATE daily_goal dg
+                    SET solve_count = dg.solve_count + c.solved_count
+                    FROM weekly_goal wg,
+                         (SELECT user_id, algorithm_id, solved_date, count(*)::int AS solved_count
+                          FROM inserted
+                          GROUP BY user_id, algorithm_id, solved_date) c
+                    WHERE wg.user_id = c.user_id
+                      AND dg.weekly_goal_id = wg.weekly_goal_id
+                      AND dg.algorithm_id = c.algorithm_id
+                      AND dg.goal_date = c.solved_date
+                ),
+                stale_months AS (
+                    INSERT INTO ranking_stale_month (stat_month, marked_at)
+                    SELECT DISTINCT date_trunc('month', solved_date)::date, clock_timestamp()::timestamp
+                    FROM inserted
+                    ON CONFLICT (stat_month) DO UPDATE SET marked_at = EXCLUDED.marked_at
+                )
+                SELECT user_id, count(*)::int
+                FROM inserted
+                GROUP BY user_id
+                ORDER BY user_id
+                """, callback);
+        return total[0];
+    }
+
+}
@@ -1,12 +1,16 @@
 package com.errorterry.algotrack_backend_spring.repository;
 
 import com.errorterry.algotrack_backend_spring.domain.SolvedLog;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface SolvedLogStatisticsRepository extends Repository<SolvedLog, Integer> {
 
@@ -49,19 +53,19 @@ public interface SolvedLogStatisticsRepository extends Repository<SolvedLog, Int
             @Param("endDate") LocalDate endDate
     );
 
-    // 가장 많이 푼 문제 티어
-    interface TierCountProjection {
-        String getProblemTier();
+    // 난이도별 풀이 수 (티어는 ProblemTier.fromLevel 로 계산)
+    interface LevelCountProjection {
+        Integer getProblemLevel();
         Long getSolvedCount();
     }
 
     @Query("""
-        SELECT sl.problemTier AS problemTier, COUNT(sl) AS solvedCount
+        SELECT sl.problemLevel AS problemLevel, COUNT(sl) AS solvedCount
         FROM SolvedLog sl
         WHERE sl.user.userId = :userId AND sl.solvedDate BETWEEN :startDate AND :endDate
-        GROUP BY sl.problemTier
+        GROUP BY sl.problemLevel
     """)
-    List<TierCountProjection> findTierStatsBySolvedCount(
+    List<LevelCountProjection> findLevelStatsBySolvedCount(
             @Param("userId") Integer userId,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate
@@ -74,4 +78,69 @@ public interface SolvedLogStatisticsRepository extends Repository<SolvedLog, Int
             LocalDate endDate
     );
 
+    // 통계 집계용 최소 컬럼 (엔티티 로딩 없이 스트리밍)
+    interface SolvedLogRowProjection {
+        LocalDate getSolvedDate();
+        Integer getProblemId();
+        Integer getAlgorithmId();
+        Integer getProblemLevel();
+    }
+
+    // 특정 범위 내 solved_log 스트리밍 조회 (월간 통계 단일 스캔용)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+        SELECT sl.solvedDate AS solvedDate, sl.problemId AS problemId,
+               sl.algorithm.algorithmId AS algorithmId, sl.problemLevel AS problemLevel
+        FROM SolvedLog sl
+        WHERE sl.user.userId = :userId AND sl.solvedDate BETWEEN :startDate AND :endDate
+    """)
+    Stream<SolvedLogRowProjection> streamRowsByUserIdAndSolvedDateBetween(
+            @Param("userId") Integer userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    // 특정 사용자 solved_log 전체 스트리밍 조회 (월간 롤업 재생성용)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+        SELECT sl.solvedDate AS solvedDate, sl.problemId AS problemId,
+               sl.algorithm.algorithmId AS algorithmId, sl.problemLevel AS problemLevel
+        FROM SolvedLog sl
+        WHERE sl.user.userId = :userId
+    """)
+    Stream<SolvedLogRowProjection> streamRowsByUserId(@Param("userId") Integer userId);
+
+    // 일자별 풀이 수 (히트맵 재생성 / 과거 날짜 스트릭 재계산용)
+    interface DailyCountProjection {
+        LocalDate getSolvedDate();
+        Long getSolvedCount();
+    }
+
+    @Query("""
+        SELECT sl.solvedDate AS solvedDate, COUNT(sl) AS solvedCount
+        FROM SolvedLog sl
+        WHERE sl.user.userId = :userId AND sl.solvedDate BETWEEN :startDate AND :endDate
+        GROUP BY sl.solvedDate
+    """)
+    List<DailyCountProjection> countDailyByUserIdAndSolvedDateBetween(
+            @Param("userId") Integer userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    // 특정 알고리즘 일자별 풀이 수 (과거 날짜 스트릭 재계산용)
+    @Query("""
+        SELECT sl.solvedDate AS solvedDate, COUNT(sl) AS solvedCount
+        FROM SolvedLog sl
+        WHERE sl.user.userId = :userId AND sl.algorithm.algorithmId = :algorithmId
+          AND sl.solvedDate BETWEEN :startDate AND :endDate
+        GROUP BY sl.solvedDate
+    """)
+    List<DailyCountProjection> countDailyByUserIdAndAlgorithmIdAndSolvedDateBetween(
+            @Param("userId") Integer userId,
+            @Param("algorithmId") Integer algorithmId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
 }
@@ -0,0 +1,52 @@
+package com.errorterry.algotrack_backend_spring.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+
+// 사용자 데이터 버전 (users.data_version, JDBC)
+// - 증가는 호출한 쪽 트랜잭션(같은 커넥션)에 참여
+@Repository
+@RequiredArgsConstructor
+public class UserDataVersionRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 현재 버전 (없는 사용자면 0)
+    public long findVersion(Integer userId) {
+        List<Long> versions = jdbcTemplate.queryForList(
+                "SELECT data_version FROM users WHERE user_id = ?", Long.class, userId);
+        return versions.isEmpty() ? 0L : versions.get(0);
+    }
+
+    // 사용자 1명 버전 +1
+    public int increase(Integer userId) {
+        return jdbcTemplate.update(
+                "UPDATE users SET data_version = data_version + 1 WHERE user_id = ?", userId);
+    }
+
+    // 여러 사용자 버전 +1 (user_id 순으로 잠근 뒤 갱신 -> 동시 실행끼리 교착 없음)
+    public int increaseAll(Integer[] userIds) {
+        return jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement("""
+                    WITH locked AS (
+                        SELECT user_id
+                        FROM users
+                        WHERE user_id = ANY(?::int[])
+                        ORDER BY user_id
+                        FOR NO KEY UPDATE
+                    )
+                    UPDATE users u
+                    SET data_version = u.data_version + 1
+                    FROM locked
+                    WHERE u.user_id = locked.user_id
+                    """);
+            ps.setArray(1, con.createArrayOf("int4", userIds));
+            return ps;
+        });
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.errorterry.algotrack_backend_spring.repository;
+
+import com.errorterry.algotrack_backend_spring.domain.UserMonthAlgorithmStats;
+import com.errorterry.algotrack_backend_spring.domain.UserMonthAlgorithmStatsId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface UserMonthAlgorithmStatsRepository
+        extends JpaRepository<UserMonthAlgorithmStats, UserMonthAlgorithmStatsId> {
+
+    // 특정 사용자/월의 알고리즘별 풀이 수 (풀이 수 desc, algorithmId asc)
+    List<UserMonthAlgorithmStats> findByUserIdAndStatMonthOrderBySolvedCountDescAlgorithmIdAsc(
+            Integer userId,
+            LocalDate statMonth
+    );
+
+    // 알고리즘별 풀이 수 +1 (행이 없으면 1로 생성)
+    @Modifying
+    @Query(value = """
+        INSERT INTO user_month_algorithm_stats AS s (user_id, stat_month, algorithm_id, solved_count)
+        VALUES (:userId, :statMonth, :algorithmId, 1)
+        ON CONFLICT (user_id, stat_month, algorithm_id)
+        DO UPDATE SET solved_count = s.solved_count + 1
+    """, nativeQuery = true)
+    int increaseSolved(
+            @Param("userId") Integer userId,
+            @Param("statMonth") LocalDate statMonth,
+            @Param("algorithmId") Integer algorithmId
+    );
+
+    // 특정 사용자 롤업 전체 삭제 (재생성용)
+    @Modifying
+    @Query("DELETE FROM UserMonthAlgorithmStats s WHERE s.userId = :userId")
+    int deleteAllByUserId(@Param("userId") Integer userId);
+
+}
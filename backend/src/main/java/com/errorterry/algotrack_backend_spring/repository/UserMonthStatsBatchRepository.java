@@ -0,0 +1,110 @@
+package com.errorterry.algotrack_backend_spring.repository;
+
+import com.errorterry.algotrack_backend_spring.domain.UserMonthStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+// 월간 롤업 일괄 증분 반영 (JDBC, 일괄 기록용)
+// - 재생성(삭제 후 다시 저장) 대신 기존 행에 더함 -> 동시 단건 기록과 같은 행 잠금으로 직렬화
+// - 배열 컬럼은 원소별 합 (길이는 롤업 행과 같아야 함)
+// - 호출한 쪽 트랜잭션(같은 커넥션)에 참여
+@Repository
+@RequiredArgsConstructor
+public class UserMonthStatsBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 한 달 증분 (delta) 을 user_month_stats 에 더함 (행이 없으면 delta 그대로 생성)
+    // - 반영 후 {총 풀이 수, 축별 풀이 수...} 반환 (행 잠금 상태의 값 -> 동시 기록과 겹치지 않음)
+    public int[] addMonth(UserMonthStats delta) {
+        ResultSetExtractor<int[]> extractor = rs -> {
+            rs.next();
+            Integer[] axisCounts = (Integer[]) rs.getArray(2).getArray();
+            int[] counts = new int[axisCounts.length + 1];
+            counts[0] = rs.getInt(1);
+            for (int i = 0; i < axisCounts.length; i++) {
+                counts[i + 1] = axisCounts[i];
+            }
+            return counts;
+        };
+
+        return jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement("""
+                    INSERT INTO user_month_stats AS s (
+                        user_id, stat_month, total_solved, solved_day_mask,
+                        day_counts, day_tier_score_sums, tier_counts, tier_score_sum, axis_counts, tag_axis_counts
+                    )
+                    VALUES (?, ?, ?, ?, ?::int[], ?::int[], ?::int[], ?, ?::int[], ?::int[])
+                    ON CONFLICT (user_id, stat_month) DO UPDATE SET
+                        total_solved = s.total_solved + EXCLUDED.total_solved,
+                        solved_day_mask = s.solved_day_mask | EXCLUDED.solved_day_mask,
+                        day_counts = ARRAY(
+                            SELECT a + b FROM unnest(s.day_counts, EXCLUDED.day_counts) WITH ORDINALITY AS t(a, b, i)
+                            ORDER BY i),
+                        day_tier_score_sums = ARRAY(
+                            SELECT a + b FROM unnest(s.day_tier_score_sums, EXCLUDED.day_tier_score_sums) WITH ORDINALITY AS t(a, b, i)
+                            ORDER BY i),
+                        tier_counts = ARRAY(
+                            SELECT a + b FROM unnest(s.tier_counts, EXCLUDED.tier_counts) WITH ORDINALITY AS t(a, b, i)
+                            ORDER BY i),
+                        tier_score_sum = s.tier_score_sum + EXCLUDED.tier_score_sum,
+                        axis_counts = ARRAY(
+                            SELECT a + b FROM unnest(s.axis_counts, EXCLUDED.axis_counts) WITH ORDINALITY AS t(a, b, i)
+                            ORDER BY i),
+                        tag_axis_counts = ARRAY(
+                            SELECT a + b FROM unnest(s.tag_axis_counts, EXCLUDED.tag_axis_counts) WITH ORDINALITY AS t(a, b, i)
+                            ORDER BY i)
+                    RETURNING total_solved, axis_counts
+                    """);
+            ps.setInt(1, delta.getUserId());
+            ps.setObject(2, delta.getStatMonth());
+            ps.setInt(3, delta.getTotalSolved());
+            ps.setInt(4, delta.getSolvedDayMask());
+            ps.setArray(5, intArray(con, delta.getDayCounts()));
+            ps.setArray(6, intArray(con, delta.getDayTierScoreSums()));
+            ps.setArray(7, intArray(con, delta.getTierCounts()));
+            ps.setInt(8, delta.getTierScoreSum());
+            ps.setArray(9, intArray(con, delta.getAxisCounts()));
+            ps.setArray(10, intArray(con, delta.getTagAxisCounts()));
+            return ps;
+        }, extractor);
+    }
+
+    // (월, 알고리즘)별 풀이 수를 user_month_algorithm_stats 에 더함 (SQL 1회)
+    // - (statMonths[i], algorithmIds[i]) 는 서로 겹치지 않아야 함, 정렬 순서대로 행 잠금
+    public int addAlgorithmCounts(
+            Integer userId,
+            String[] statMonths,
+            Integer[] algorithmIds,
+            Integer[] solvedCounts
+    ) {
+        return jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement("""
+                    INSERT INTO user_month_algorithm_stats AS s (user_id, stat_month, algorithm_id, solved_count)
+                    SELECT ?, t.stat_month, t.algorithm_id, t.solved_count
+                    FROM unnest(?::date[], ?::int[], ?::int[]) AS t(stat_month, algorithm_id, solved_count)
+                    ORDER BY t.stat_month, t.algorithm_id
+                    ON CONFLICT (user_id, stat_month, algorithm_id)
+                    DO UPDATE SET solved_count = s.solved_count + EXCLUDED.solved_count
+                    """);
+            ps.setInt(1, userId);
+            ps.setArray(2, con.createArrayOf("text", statMonths));
+            ps.setArray(3, con.createArrayOf("int4", algorithmIds));
+            ps.setArray(4, con.createArrayOf("int4", solvedCounts));
+            return ps;
+        });
+    }
+
+    private static Array intArray(Connection con, int[] values) throws SQLException {
+        return con.createArrayOf("int4", Arrays.stream(values).boxed().toArray(Integer[]::new));
+    }
+
+}
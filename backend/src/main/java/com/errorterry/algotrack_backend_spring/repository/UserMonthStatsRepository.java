@@ -0,0 +1,75 @@
+package com.errorterry.algotrack_backend_spring.repository;
+
+import com.errorterry.algotrack_backend_spring.domain.UserMonthStats;
+import com.errorterry.algotrack_backend_spring.domain.UserMonthStatsId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+
+public interface UserMonthStatsRepository extends JpaRepository<UserMonthStats, UserMonthStatsId> {
+
+    // 월간 롤업 행이 없으면 0으로 채운 행 생성
+    @Modifying
+    @Query(value = """
+        INSERT INTO user_month_stats (
+            user_id, stat_month, total_solved, solved_day_mask,
+            day_counts, day_tier_score_sums, tier_counts, tier_score_sum, axis_counts, tag_axis_counts
+        )
+        VALUES (
+            :userId, :statMonth, 0, 0,
+            array_fill(0, ARRAY[31]), array_fill(0, ARRAY[31]), array_fill(0, ARRAY[8]), 0,
+            array_fill(0, ARRAY[6]), array_fill(0, ARRAY[6])
+        )
+        ON CONFLICT (user_id, stat_month) DO NOTHING
+    """, nativeQuery = true)
+    int insertEmptyIfAbsent(
+            @Param("userId") Integer userId,
+            @Param("statMonth") LocalDate statMonth
+    );
+
+    // 풀이 1건 반영 후 갱신된 월간 / 축별 풀이 수
+    interface SolvedCountsProjection {
+        Integer getTotalSolved();
+        Integer getAxisSolved();
+    }
+
+    // 풀이 1건 반영 (day, tierIndex, axisIndex 는 PostgreSQL 배열 기준 1-based)
+    // - tagAxisMask : 문제 태그가 걸친 축 비트 (bit = HexagonAxis.ordinal), 비트마다 tag_axis_counts +1
+    // - 행 잠금 상태에서 증가 후 값을 돌려주므로 같은 사용자 동시 기록에도 값이 겹치지 않음
+    @Query(value = """
+        UPDATE user_month_stats
+        SET total_solved = total_solved + 1,
+            solved_day_mask = solved_day_mask | :dayBit,
+            day_counts[:day] = day_counts[:day] + 1,
+            day_tier_score_sums[:day] = day_tier_score_sums[:day] + :tierScore,
+            tier_counts[:tierIndex] = tier_counts[:tierIndex] + 1,
+            tier_score_sum = tier_score_sum + :tierScore,
+            axis_counts[:axisIndex] = axis_counts[:axisIndex] + 1,
+            tag_axis_counts = ARRAY(
+                SELECT c + ((:tagAxisMask >> (CAST(i AS INT) - 1)) & 1)
+                FROM unnest(tag_axis_counts) WITH ORDINALITY AS t(c, i)
+                ORDER BY i
+            )
+        WHERE user_id = :userId AND stat_month = :statMonth
+        RETURNING total_solved AS totalSolved, axis_counts[:axisIndex] AS axisSolved
+    """, nativeQuery = true)
+    SolvedCountsProjection increaseSolved(
+            @Param("userId") Integer userId,
+            @Param("statMonth") LocalDate statMonth,
+            @Param("day") int day,
+            @Param("dayBit") int dayBit,
+            @Param("tierIndex") int tierIndex,
+            @Param("tierScore") int tierScore,
+            @Param("axisIndex") int axisIndex,
+            @Param("tagAxisMask") int tagAxisMask
+    );
+
+    // 특정 사용자 롤업 전체 삭제 (재생성용)
+    @Modifying
+    @Query("DELETE FROM UserMonthStats s WHERE s.userId = :userId")
+    int deleteAllByUserId(@Param("userId") Integer userId);
+
+}
@@ -2,11 +2,17 @@ package com.errorterry.algotrack_backend_spring.repository;
 
 import com.errorterry.algotrack_backend_spring.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Integer> {
 
     Optional<User> findBySocialId(String socialId);
 
+    // 전체 user_id 조회 (배치/재생성용)
+    @Query("SELECT u.userId FROM User u ORDER BY u.userId")
+    List<Integer> findAllUserIds();
+
 }
@@ -0,0 +1,60 @@
+package com.errorterry.algotrack_backend_spring.repository;
+
+import com.errorterry.algotrack_backend_spring.domain.UserStreak;
+import com.errorterry.algotrack_backend_spring.domain.UserStreakId;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface UserStreakRepository extends JpaRepository<UserStreak, UserStreakId> {
+
+    // 특정 사용자 스트릭 전체 (전체 -> 알고리즘 순)
+    List<UserStreak> findByUserIdOrderByAlgorithmIdAsc(Integer userId);
+
+    // 마지막 풀이일 이후 풀이 반영 (행이 없으면 1일로 생성)
+    // - 다음 날 : current + 1, 이틀 이상 뒤 : current = 1
+    // - 마지막 풀이일 이전/같은 날이면 갱신하지 않고 0 반환
+    @Modifying
+    @Query(value = """
+        INSERT INTO user_streak AS s (user_id, algorithm_id, last_solved_date, current_streak, best_streak)
+        VALUES (:userId, :algorithmId, :solvedDate, 1, 1)
+        ON CONFLICT (user_id, algorithm_id)
+        DO UPDATE SET
+            last_solved_date = EXCLUDED.last_solved_date,
+            current_streak = CASE
+                WHEN EXCLUDED.last_solved_date = s.last_solved_date + 1 THEN s.current_streak + 1
+                ELSE 1
+            END,
+            best_streak = GREATEST(s.best_streak, CASE
+                WHEN EXCLUDED.last_solved_date = s.last_solved_date + 1 THEN s.current_streak + 1
+                ELSE 1
+            END)
+        WHERE EXCLUDED.last_solved_date > s.last_solved_date
+    """, nativeQuery = true)
+    int recordInOrder(
+            @Param("userId") Integer userId,
+            @Param("algorithmId") Integer algorithmId,
+            @Param("solvedDate") LocalDate solvedDate
+    );
+
+    // 과거 날짜 반영용 행 잠금 조회
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserStreak s WHERE s.userId = :userId AND s.algorithmId = :algorithmId")
+    Optional<UserStreak> findForUpdate(
+            @Param("userId") Integer userId,
+            @Param("algorithmId") Integer algorithmId
+    );
+
+    // 특정 사용자 스트릭 전체 삭제 (재생성용)
+    @Modifying
+    @Query("DELETE FROM UserStreak s WHERE s.userId = :userId")
+    int deleteAllByUserId(@Param("userId") Integer userId);
+
+}
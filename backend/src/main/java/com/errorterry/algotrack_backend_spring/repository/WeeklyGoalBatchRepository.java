@@ -0,0 +1,56 @@
+package com.errorterry.algotrack_backend_spring.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+
+// 주간 목표 저장 (JDBC)
+// - weekly_goal / daily_goal 을 조회 없이 upsert 로 처리 (저장 1회당 SQL 2회)
+// - 호출한 쪽 트랜잭션(같은 커넥션)에 참여
+@Repository
+@RequiredArgsConstructor
+public class WeeklyGoalBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // (user_id, week_start_date) weekly_goal 조회 또는 생성 -> weekly_goal_id
+    // - DO UPDATE 는 값 변경 없이 RETURNING 으로 기존 id 를 받기 위한 것 (동시 생성도 행 1개로 수렴)
+    public int upsertWeeklyGoal(Integer userId, LocalDate weekStartDate) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO weekly_goal (user_id, week_start_date)
+                VALUES (?, ?)
+                ON CONFLICT (user_id, week_start_date) DO UPDATE
+                SET week_start_date = EXCLUDED.week_start_date
+                RETURNING weekly_goal_id
+                """, Integer.class, userId, weekStartDate);
+    }
+
+    // (알고리즘, 날짜)별 goal_count 일괄 누적 (없으면 생성, solve_count 는 0 으로 시작)
+    // - (algorithmIds[i], goalDates[i]) 는 서로 겹치지 않아야 함 (한 행을 두 번 갱신할 수 없음)
+    // - 기존 값에 DB 에서 더하므로 동시 저장도 유실 없음
+    public int addDailyGoals(
+            int weeklyGoalId,
+            Integer[] algorithmIds,
+            String[] goalDates,
+            Integer[] goalCounts
+    ) {
+        return jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement("""
+                    INSERT INTO daily_goal (weekly_goal_id, algorithm_id, goal_date, goal_count)
+                    SELECT ?, t.algorithm_id, t.goal_date, t.goal_count
+                    FROM unnest(?::int[], ?::date[], ?::int[]) AS t(algorithm_id, goal_date, goal_count)
+                    ON CONFLICT (weekly_goal_id, algorithm_id, goal_date) DO UPDATE
+                    SET goal_count = daily_goal.goal_count + EXCLUDED.goal_count
+                    """);
+            ps.setInt(1, weeklyGoalId);
+            ps.setArray(2, con.createArrayOf("int4", algorithmIds));
+            ps.setArray(3, con.createArrayOf("text", goalDates));
+            ps.setArray(4, con.createArrayOf("int4", goalCounts));
+            return ps;
+        });
+    }
+
+}
@@ -5,7 +5,7 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -15,13 +15,24 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Set;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
 
+    // 운영용 API(/api/_debug 재생성 / 재적재 등) 호출 가능한 사용자 (ROLE_ADMIN 추가 부여)
+    private final Set<Integer> adminUserIds;
+
+    public JwtAuthFilter(
+            JwtUtil jwtUtil,
+            @Value("${debug-api.admin-user-ids:}") Set<Integer> adminUserIds
+    ) {
+        this.jwtUtil = jwtUtil;
+        this.adminUserIds = adminUserIds;
+    }
+
     @Override
     protected void doFilterInternal(
             HttpServletRequest request,
@@ -43,12 +54,14 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             if (jwtUtil.validateToken(token)) {
                 Integer userId = jwtUtil.getUserId(token);
 
-                // 간단하게 userId를 principal로 쓰고 ROLE_USER 하나만 부여
+                // 간단하게 userId를 principal로 쓰고 ROLE_USER 부여 (관리자 목록에 있으면 ROLE_ADMIN 도)
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
                                 userId,
                                 null,
-                                List.of(new SimpleGrantedAuthority("ROLE_USER"))
+                                adminUserIds.contains(userId)
+                                        ? List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN"))
+                                        : List.of(new SimpleGrantedAuthority("ROLE_USER"))
                         );
 
                 authentication.setDetails(
@@ -0,0 +1,137 @@
+package com.errorterry.algotrack_backend_spring.service;
+
+import com.errorterry.algotrack_backend_spring.dto.StatisticsHeatmapResponseDto;
+import com.errorterry.algotrack_backend_spring.event.SolvedLogBatchRecordedEvent;
+import com.errorterry.algotrack_backend_spring.event.SolvedLogRecordedEvent;
+import com.errorterry.algotrack_backend_spring.repository.SolvedLogStatisticsRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 연간 활동 히트맵 캐시 (userId + 연도 기준)
+// - 값은 일자별 풀이 수 short[365/366] (index = dayOfYear - 1, 항목당 약 0.7KB)
+// - 없으면 solved_log 일자별 COUNT 로 재생성
+// - 항목에 생성 시점의 사용자 데이터 버전을 함께 저장, 요청 버전보다 오래된 항목은 다시 생성
+//   (가져오기 CLI / 롤업 재생성처럼 이벤트 없이 바뀌는 경로도 users.data_version 으로 반영)
+// - solved_log 기록 커밋 후에는 해당 연도 항목 제거
+//   (커밋 후 다시 생성된 항목에 +1 을 더하면 같은 풀이를 두 번 세므로 증분 반영하지 않음)
+@Component
+public class ActivityHeatmapCache {
+
+    private static final int MIN_YEAR = 2000;
+
+    private final SolvedLogStatisticsRepository solvedLogStatisticsRepository;
+    private final Cache<Key, Entry> cache;
+
+    public ActivityHeatmapCache(
+            SolvedLogStatisticsRepository solvedLogStatisticsRepository,
+            @Value("${statistics.heatmap.maximum-size:20000}") long maximumSize,
+            @Value("${statistics.heatmap.ttl:1h}") Duration ttl
+    ) {
+        this.solvedLogStatisticsRepository = solvedLogStatisticsRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    // 연간 히트맵 조회
+    // - version : 요청 처리 전에 읽은 사용자 데이터 버전 (캐시 항목이 이보다 오래됐으면 다시 생성)
+    public StatisticsHeatmapResponseDto getHeatmap(Integer userId, int year, long version) {
+        if (year < MIN_YEAR || year > LocalDate.now().getYear() + 1) {
+            throw new IllegalArgumentException("year 값 범위 오류");
+        }
+
+        Key key = new Key(userId, year);
+        Entry entry = cache.get(key, k -> new Entry(version, load(userId, year)));
+        if (entry.version() < version) {
+            entry = cache.asMap().compute(key, (k, existing) -> (existing != null && existing.version() >= version)
+                    ? existing
+                    : new Entry(version, load(userId, year)));
+        }
+        short[] counts = entry.counts();
+
+        int totalSolved = 0;
+        int activeDays = 0;
+        int maxDailySolved = 0;
+        for (short count : counts) {
+            if (count > 0) {
+                totalSolved += count;
+                activeDays++;
+                maxDailySolved = Math.max(maxDailySolved, count);
+            }
+        }
+
+        return StatisticsHeatmapResponseDto.builder()
+                .year(year)
+                .startDate(LocalDate.of(year, 1, 1))
+                .totalSolved(totalSolved)
+                .activeDays(activeDays)
+                .maxDailySolved(maxDailySolved)
+                .counts(counts)
+                .build();
+    }
+
+    // 문제 풀이 기록 -> 해당 연도 항목 제거 (다음 조회 때 재생성)
+    @TransactionalEventListener
+    public void onSolvedLogRecorded(SolvedLogRecordedEvent event) {
+        cache.invalidate(new Key(event.getUserId(), event.getSolvedDate().getYear()));
+    }
+
+    // 일괄 기록 -> 해당 연도 항목 제거 (다음 조회 때 재생성)
+    @TransactionalEventListener
+    public void onSolvedLogBatchRecorded(SolvedLogBatchRecordedEvent event) {
+        event.getSolvedDates().stream()
+                .map(LocalDate::getYear)
+                .distinct()
+                .forEach(year -> cache.invalidate(new Key(event.getUserId(), year)));
+    }
+
+    // 캐시 통계 (hit / miss / eviction)
+    public Map<String, Object> stats() {
+        CacheStats stats = cache.stats();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", cache.estimatedSize());
+        result.put("hit_count", stats.hitCount());
+        result.put("miss_count", stats.missCount());
+        result.put("hit_rate", stats.hitRate());
+        result.put("eviction_count", stats.evictionCount());
+        return result;
+    }
+
+    // solved_log 일자별 COUNT 로 연간 배열 생성
+    private short[] load(Integer userId, int year) {
+        LocalDate startDate = LocalDate.of(year, 1, 1);
+        LocalDate endDate = LocalDate.of(year, 12, 31);
+
+        short[] counts = new short[Year.of(year).length()];
+
+        List<SolvedLogStatisticsRepository.DailyCountProjection> rows = solvedLogStatisticsRepository
+                .countDailyByUserIdAndSolvedDateBetween(userId, startDate, endDate);
+
+        for (SolvedLogStatisticsRepository.DailyCountProjection row : rows) {
+            long count = row.getSolvedCount() == null ? 0L : row.getSolvedCount();
+            counts[row.getSolvedDate().getDayOfYear() - 1] = (short) Math.min(count, Short.MAX_VALUE);
+        }
+        return counts;
+    }
+
+    private record Key(Integer userId, int year) {
+    }
+
+    private record Entry(long version, short[] counts) {
+    }
+
+}
@@ -0,0 +1,127 @@
+package com.errorterry.algotrack_backend_spring.service;
+
+import com.errorterry.algotrack_backend_spring.domain.Algorithm;
+import com.errorterry.algotrack_backend_spring.domain.HexagonAxis;
+import com.errorterry.algotrack_backend_spring.repository.AlgorithmRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 알고리즘 카탈로그 (algorithm 테이블 불변 스냅샷)
+// - 기동 시 algorithm 전체를 읽어 이름 -> id 해시맵 / id -> 알고리즘 배열 / id -> 육각형 축 배열로 보관
+// - 축별 태그 마스크(문제 태그 비트와 같은 배치)도 함께 생성 (ProblemCatalog 태그 집계용)
+// - 알고리즘 목록은 시드(algorithm.csv)로만 바뀌므로 요청 경로에서는 조회하지 않음
+// - 시드 변경 시 reload 호출 -> 새 스냅샷을 만든 뒤 참조만 교체 (읽는 쪽은 잠금 없음)
+@Component
+@RequiredArgsConstructor
+public class AlgorithmCatalog {
+
+    private final AlgorithmRepository algorithmRepository;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @PostConstruct
+    public void reload() {
+        List<Algorithm> algorithms = algorithmRepository.findAll();
+
+        int maxId = 0;
+        for (Algorithm algorithm : algorithms) {
+            maxId = Math.max(maxId, algorithm.getAlgorithmId());
+        }
+
+        Map<String, Integer> idByName = new HashMap<>(algorithms.size() * 2);
+        Algorithm[] byId = new Algorithm[maxId + 1];
+        byte[] axisById = new byte[maxId + 1];
+        long[] axisTagMasks = new long[HexagonAxis.count() * ProblemCatalog.TAG_WORDS];
+        for (Algorithm algorithm : algorithms) {
+            int algorithmId = algorithm.getAlgorithmId();
+            HexagonAxis axis = algorithm.getHexagonAxis() == null ? HexagonAxis.IMPLEMENTATION : algorithm.getHexagonAxis();
+
+            // 영속성 컨텍스트와 분리된 사본 보관 (스냅샷 밖에서 수정되지 않도록)
+            byId[algorithmId] = Algorithm.builder()
+                    .algorithmId(algorithmId)
+                    .algorithmName(algorithm.getAlgorithmName())
+                    .definition(algorithm.getDefinition())
+                    .hexagonAxis(axis)
+                    .build();
+            axisById[algorithmId] = (byte) axis.ordinal();
+            int tagBit = ProblemCatalog.tagBit(algorithmId);
+            if (tagBit >= 0) {
+                axisTagMasks[axis.ordinal() * ProblemCatalog.TAG_WORDS + (tagBit >>> 6)] |= 1L << tagBit;
+            }
+            if (algorithm.getAlgorithmName() != null) {
+                idByName.put(algorithm.getAlgorithmName(), algorithmId);
+            }
+        }
+
+        snapshot = new Snapshot(Map.copyOf(idByName), byId, axisById, axisTagMasks, algorithms.size());
+    }
+
+    // 이름 -> algorithm_id (등록되지 않은 이름이면 null)
+    public Integer idOf(String algorithmName) {
+        return algorithmName == null ? null : snapshot.idByName().get(algorithmName);
+    }
+
+    public boolean contains(Integer algorithmId) {
+        Algorithm[] byId = snapshot.byId();
+        return algorithmId != null && algorithmId >= 0 && algorithmId < byId.length && byId[algorithmId] != null;
+    }
+
+    // algorithm_id -> 이름 (등록되지 않은 알고리즘이면 null)
+    public String nameOf(int algorithmId) {
+        return contains(algorithmId) ? snapshot.byId()[algorithmId].getAlgorithmName() : null;
+    }
+
+    // 축 ordinal (등록되지 않은 알고리즘은 IMPLEMENTATION)
+    public int axisOrdinal(int algorithmId) {
+        byte[] axes = snapshot.axisById();
+        return (algorithmId >= 0 && algorithmId < axes.length) ? axes[algorithmId] : HexagonAxis.IMPLEMENTATION.ordinal();
+    }
+
+    // 알고리즘별 풀이 수 배열(index = algorithm_id)을 축별 합계로 접기
+    public long[] foldByAxis(int[] algorithmCounts) {
+        byte[] axes = snapshot.axisById();
+        long[] axisSolved = new long[HexagonAxis.count()];
+
+        int shared = Math.min(axes.length, algorithmCounts.length);
+        for (int algorithmId = 0; algorithmId < shared; algorithmId++) {
+            axisSolved[axes[algorithmId]] += algorithmCounts[algorithmId];
+        }
+        for (int algorithmId = shared; algorithmId < algorithmCounts.length; algorithmId++) {
+            axisSolved[HexagonAxis.IMPLEMENTATION.ordinal()] += algorithmCounts[algorithmId];
+        }
+        return axisSolved;
+    }
+
+    // 축별 태그 마스크 (axis.ordinal * TAG_WORDS + 워드 번호, 읽기 전용)
+    long[] axisTagMasks() {
+        return snapshot.axisTagMasks();
+    }
+
+    // 적재된 알고리즘 수 / 최대 id (모니터링용)
+    public Map<String, Object> stats() {
+        Snapshot current = snapshot;
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("algorithms", current.size());
+        result.put("max_algorithm_id", current.byId().length - 1);
+        return result;
+    }
+
+    // 불변 스냅샷 (배열은 생성 후 수정하지 않음)
+    private record Snapshot(
+            Map<String, Integer> idByName,
+            Algorithm[] byId,
+            byte[] axisById,
+            long[] axisTagMasks,
+            int size
+    ) {
+
+        private static final Snapshot EMPTY = new Snapshot(
+                Map.of(), new Algorithm[0], new byte[0], new long[HexagonAxis.count() * ProblemCatalog.TAG_WORDS], 0);
+    }
+}
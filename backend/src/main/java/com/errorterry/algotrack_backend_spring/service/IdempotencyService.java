@@ -0,0 +1,226 @@
+package com.errorterry.algotrack_backend_spring.service;
+
+import com.errorterry.algotrack_backend_spring.repository.IdempotencyKeyRepository;
+import com.errorterry.algotrack_backend_spring.repository.IdempotencyKeyRepository.StoredResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// 쓰기 요청 멱등 처리 (Idempotency-Key 헤더)
+// - 같은 사용자 + 같은 범위 + 같은 키로 다시 들어온 요청은 쓰기를 다시 실행하지 않고 처음 응답을 그대로 반환
+// - 앞단 메모리 캐시 -> 없으면 idempotency_key 테이블
+// - 키 선점 / 쓰기 / 응답 저장은 한 트랜잭션 (쓰기가 실패하면 선점도 롤백 -> 재시도 시 다시 실행)
+// - 같은 키에 다른 요청 본문이면 오류
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 64;
+
+    public enum Scope {
+        SOLVE_LOG,
+        WEEKLY_GOAL
+    }
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+    private final Cache<Key, StoredResponse> cache;
+
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder cacheReplays = new LongAdder();
+    private final LongAdder tableReplays = new LongAdder();
+
+    public IdempotencyService(
+            IdempotencyKeyRepository idempotencyKeyRepository,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${idempotency.ttl:24h}") Duration ttl,
+            @Value("${idempotency.cache.maximum-size:100000}") long maximumSize
+    ) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ttl = ttl;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    // 키가 없으면 action 바로 실행, 있으면 멱등 처리
+    // - action 안의 @Transactional 은 여기서 연 트랜잭션에 참여
+    public <T> ResponseEntity<T> execute(
+            Integer userId,
+            Scope scope,
+            String key,
+            Object request,
+            Class<T> bodyType,
+            Supplier<ResponseEntity<T>> action
+    ) {
+        if (key == null) {
+            return action.get();
+        }
+        validateKey(key);
+
+        long requestHash = hash(request);
+        Key cacheKey = new Key(userId, scope, key);
+
+        ResponseEntity<T> cached = replayCached(cacheKey, requestHash, bodyType);
+        if (cached != null) {
+            return cached;
+        }
+
+        StoredResponse[] stored = new StoredResponse[1];
+        ResponseEntity<T> response = transactionTemplate.execute(status -> {
+            // 1) 키 선점 (다른 요청이 선점 중이면 커밋 / 롤백까지 대기)
+            boolean claimed = idempotencyKeyRepository.claim(
+                    userId, scope.ordinal(), key, requestHash, LocalDateTime.now().plus(ttl));
+            if (!claimed) {
+                stored[0] = idempotencyKeyRepository.find(userId, scope.ordinal(), key);
+                return null;
+            }
+
+            // 2) 쓰기 실행 + 3) 응답 저장 (같은 트랜잭션)
+            ResponseEntity<T> result = action.get();
+            String body = toJson(result.getBody());
+            idempotencyKeyRepository.saveResponse(userId, scope.ordinal(), key, result.getStatusCode().value(), body);
+            stored[0] = new StoredResponse(requestHash, result.getStatusCode().value(), body);
+            return result;
+        });
+
+        if (response != null) {
+            // 커밋 후에만 앞단 캐시에 반영
+            executed.increment();
+            cache.put(cacheKey, stored[0]);
+            return response;
+        }
+
+        StoredResponse replay = stored[0];
+        if (replay == null || replay.statusCode() == null) {
+            // 선점한 요청이 응답 저장 없이 끝난 경우 (정상 흐름에서는 발생하지 않음)
+            throw new IllegalStateException("같은 Idempotency-Key 요청 처리 중");
+        }
+        tableReplays.increment();
+        cache.put(cacheKey, replay);
+        return toResponse(replay, requestHash, bodyType);
+    }
+
+    // 앞단 캐시에 저장된 응답 (없으면 null, DB 조회 없음)
+    public <T> ResponseEntity<T> replayCached(Integer userId, Scope scope, String key, Object request, Class<T> bodyType) {
+        validateKey(key);
+        return replayCached(new Key(userId, scope, key), hash(request), bodyType);
+    }
+
+    // 응답을 앞단 캐시에만 기록 (DB 트랜잭션 없이 접수만 하는 경로용)
+    public void remember(Integer userId, Scope scope, String key, Object request, ResponseEntity<?> response) {
+        cache.put(new Key(userId, scope, key),
+                new StoredResponse(hash(request), response.getStatusCode().value(), toJson(response.getBody())));
+    }
+
+    // 만료된 키 정리
+    @Scheduled(
+            initialDelayString = "${idempotency.purge-interval-ms:3600000}",
+            fixedDelayString = "${idempotency.purge-interval-ms:3600000}"
+    )
+    public void purgeExpired() {
+        try {
+            int deleted = idempotencyKeyRepository.deleteExpired();
+            if (deleted > 0) {
+                log.info("만료된 Idempotency-Key 삭제 : {}건", deleted);
+            }
+        } catch (RuntimeException e) {
+            log.warn("만료된 Idempotency-Key 삭제 실패", e);
+        }
+    }
+
+    // 실행 / 캐시 재응답 / 테이블 재응답 횟수 (모니터링용)
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("cache_size", cache.estimatedSize());
+        result.put("executed", executed.sum());
+        result.put("cache_replays", cacheReplays.sum());
+        result.put("table_replays", tableReplays.sum());
+        return result;
+    }
+
+    private <T> ResponseEntity<T> replayCached(Key cacheKey, long requestHash, Class<T> bodyType) {
+        StoredResponse stored = cache.getIfPresent(cacheKey);
+        if (stored == null) {
+            return null;
+        }
+        cacheReplays.increment();
+        return toResponse(stored, requestHash, bodyType);
+    }
+
+    private <T> ResponseEntity<T> toResponse(StoredResponse stored, long requestHash, Class<T> bodyType) {
+        if (stored.requestHash() != requestHash) {
+            throw new IllegalArgumentException("Idempotency-Key 재사용 오류 (요청 내용이 다름)");
+        }
+
+        T body = null;
+        if (stored.responseBody() != null) {
+            try {
+                body = objectMapper.readValue(stored.responseBody(), bodyType);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("저장된 응답 변환 실패", e);
+            }
+        }
+        return ResponseEntity.status(stored.statusCode())
+                .header(REPLAYED_HEADER, "true")
+                .body(body);
+    }
+
+    private void validateKey(String key) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key 길이 오류 (1~" + MAX_KEY_LENGTH + ")");
+        }
+    }
+
+    private String toJson(Object body) {
+        if (body == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 저장 변환 실패", e);
+        }
+    }
+
+    // 요청 본문 JSON 의 SHA-256 앞 8바이트
+    private long hash(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("요청 해시 계산 실패", e);
+        }
+    }
+
+    private record Key(Integer userId, Scope scope, String key) {
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.errorterry.algotrack_backend_spring.service;
+
+import com.errorterry.algotrack_backend_spring.domain.HexagonAxis;
+
+// 한 달 동안의 플랫폼 풀이 수 분포 (전체 + 육각형 축별)
+// - 모집단 : 해당 월에 1문제 이상 푼 사용자
+// - 축별 분포에는 해당 축 풀이가 0인 사용자도 포함
+final class MonthRankingSketch {
+
+    private final SolveCountHistogram overall = new SolveCountHistogram();
+    private final SolveCountHistogram[] axes = new SolveCountHistogram[HexagonAxis.count()];
+
+    MonthRankingSketch() {
+        for (int i = 0; i < axes.length; i++) {
+            axes[i] = new SolveCountHistogram();
+        }
+    }
+
+    // 재생성 시 사용자 1명 추가
+    void addUser(int totalSolved, long[] axisSolved) {
+        overall.add(totalSolved);
+        for (int i = 0; i < axes.length; i++) {
+            axes[i].add((int) axisSolved[i]);
+        }
+    }
+
+    // 풀이 1건 반영 (totalSolved / axisSolved 는 반영 후 값)
+    void recordSolve(int totalSolved, int axis, int axisSolved) {
+        if (totalSolved <= 1) {
+            // 이번 달 첫 풀이 -> 모집단에 추가
+            overall.add(totalSolved);
+            for (int i = 0; i < axes.length; i++) {
+                axes[i].add(i == axis ? axisSolved : 0);
+            }
+            return;
+        }
+        overall.move(totalSolved - 1, totalSolved);
+        axes[axis].move(axisSolved - 1, axisSolved);
+    }
+
+    // 재생성 중 이벤트로 기록된 사용자 반영 ({총 풀이 수, 축별 풀이 수...})
+    // - scanned : 재생성 조회에서 이미 추가된 값 (조회에 없던 사용자면 null)
+    // - latest : 이벤트의 반영 후 값 중 최대
+    // - 풀이 수는 줄지 않으므로 항목마다 큰 값 사용 -> 조회와 이벤트에 모두 잡힌 풀이를 두 번 세지 않음
+    void raiseUser(int[] scanned, int[] latest) {
+        if (scanned == null) {
+            overall.add(latest[0]);
+            for (int i = 0; i < axes.length; i++) {
+                axes[i].add(latest[i + 1]);
+            }
+            return;
+        }
+        overall.move(scanned[0], Math.max(scanned[0], latest[0]));
+        for (int i = 0; i < axes.length; i++) {
+            axes[i].move(scanned[i + 1], Math.max(scanned[i + 1], latest[i + 1]));
+        }
+    }
+
+    long participantCount() {
+        return overall.population();
+    }
+
+    // 전체 풀이 수 기준 "나보다 적게 푼 사용자 비율(%)"
+    double overallPercentile(long totalSolved) {
+        return percentile(overall, totalSolved);
+    }
+
+    // 축별 풀이 수 기준 "나보다 적게 푼 사용자 비율(%)"
+    double axisPercentile(int axis, long axisSolved) {
+        return percentile(axes[axis], axisSolved);
+    }
+
+    private static double percentile(SolveCountHistogram histogram, long value) {
+        long population = histogram.population();
+        if (population <= 0 || value <= 0) {
+            return 0.0;
+        }
+        int clamped = (int) Math.min(value, Integer.MAX_VALUE);
+        return histogram.countBelow(clamped) * 100.0 / population;
+    }
+
+}
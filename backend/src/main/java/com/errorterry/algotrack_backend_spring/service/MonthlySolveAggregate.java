@@ -0,0 +1,220 @@
+package com.errorterry.algotrack_backend_spring.service;
+
+import com.errorterry.algotrack_backend_spring.domain.HexagonAxis;
+import com.errorterry.algotrack_backend_spring.domain.ProblemTier;
+import com.errorterry.algotrack_backend_spring.domain.UserMonthAlgorithmStats;
+import com.errorterry.algotrack_backend_spring.domain.UserMonthStats;
+import com.errorterry.algotrack_backend_spring.repository.SolvedLogCursorRepository.DayTierCount;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+// 월 단위 풀이 집계
+// - user_month_stats 롤업 행 / solved_log 재집계 결과를 같은 형태로 표현
+// - 모든 카운터는 primitive 배열 (일자 index 0 = 1일, 알고리즘 index = algorithm_id)
+// - 태그 기준 축별 풀이 수는 풀이마다 축 비트(ProblemTagCounter.axisMask)로 누적
+public class MonthlySolveAggregate {
+
+    public static final int MAX_DAYS = 31;
+
+    private final YearMonth yearMonth;
+
+    private final int[] dayCounts = new int[MAX_DAYS];
+    private final int[] dayTierScoreSums = new int[MAX_DAYS];
+    private final int[] tierCounts = new int[ProblemTier.count()];
+    private final int[] tagAxisCounts = new int[HexagonAxis.count()];
+    private int[] algorithmCounts = new int[0];
+
+    private int totalSolved;
+    private int tierScoreSum;
+    private int solvedDayMask;
+
+    public MonthlySolveAggregate(YearMonth yearMonth) {
+        this.yearMonth = yearMonth;
+    }
+
+    // 풀이 1건 반영 (tagAxisMask : 문제 태그가 걸친 축 비트, bit = HexagonAxis.ordinal)
+    public void add(int dayOfMonth, int algorithmId, ProblemTier tier, int tagAxisMask) {
+        int dayIndex = dayOfMonth - 1;
+        int score = tier.getScore();
+
+        totalSolved++;
+        tierScoreSum += score;
+        solvedDayMask |= 1 << dayIndex;
+        dayCounts[dayIndex]++;
+        dayTierScoreSums[dayIndex] += score;
+        tierCounts[tier.ordinal()]++;
+        for (int axis = 0; axis < tagAxisCounts.length; axis++) {
+            if ((tagAxisMask & (1 << axis)) != 0) {
+                tagAxisCounts[axis]++;
+            }
+        }
+
+        ensureAlgorithmCapacity(algorithmId);
+        algorithmCounts[algorithmId]++;
+    }
+
+    // (일, 티어)별 풀이 수 압축 배열 반영 (알고리즘별 / 축별 풀이 수는 채우지 않음)
+    public void addDayTierCounts(int[] packedCounts) {
+        for (int packed : packedCounts) {
+            int dayIndex = DayTierCount.dayOfMonth(packed) - 1;
+            int tierOrdinal = DayTierCount.tierOrdinal(packed);
+            int count = DayTierCount.count(packed);
+            int scoreSum = ProblemTier.fromOrdinal(tierOrdinal).getScore() * count;
+
+            totalSolved += count;
+            tierScoreSum += scoreSum;
+            solvedDayMask |= 1 << dayIndex;
+            dayCounts[dayIndex] += count;
+            dayTierScoreSums[dayIndex] += scoreSum;
+            tierCounts[tierOrdinal] += count;
+        }
+    }
+
+    // 롤업 행 -> 집계 (행이 없으면 빈 집계)
+    public static MonthlySolveAggregate fromRollup(
+            YearMonth yearMonth,
+            UserMonthStats stats,
+            List<UserMonthAlgorithmStats> algorithmRows
+    ) {
+        MonthlySolveAggregate aggregate = new MonthlySolveAggregate(yearMonth);
+
+        if (stats != null) {
+            aggregate.totalSolved = stats.getTotalSolved();
+            aggregate.tierScoreSum = stats.getTierScoreSum();
+            aggregate.solvedDayMask = stats.getSolvedDayMask();
+            copyInto(stats.getDayCounts(), aggregate.dayCounts);
+            copyInto(stats.getDayTierScoreSums(), aggregate.dayTierScoreSums);
+            copyInto(stats.getTierCounts(), aggregate.tierCounts);
+            copyInto(stats.getTagAxisCounts(), aggregate.tagAxisCounts);
+        }
+
+        if (algorithmRows != null) {
+            for (UserMonthAlgorithmStats row : algorithmRows) {
+                aggregate.ensureAlgorithmCapacity(row.getAlgorithmId());
+                aggregate.algorithmCounts[row.getAlgorithmId()] += row.getSolvedCount();
+            }
+        }
+
+        return aggregate;
+    }
+
+    // 집계 -> 롤업 행 (재생성용)
+    public UserMonthStats toRollup(Integer userId) {
+        return UserMonthStats.builder()
+                .userId(userId)
+                .statMonth(getMonthStart())
+                .totalSolved(totalSolved)
+                .solvedDayMask(solvedDayMask)
+                .dayCounts(dayCounts.clone())
+                .dayTierScoreSums(dayTierScoreSums.clone())
+                .tierCounts(tierCounts.clone())
+                .tierScoreSum(tierScoreSum)
+                .tagAxisCounts(tagAxisCounts.clone())
+                .build();
+    }
+
+    // 집계 -> 알고리즘별 롤업 행 (재생성용)
+    public List<UserMonthAlgorithmStats> toAlgorithmRollups(Integer userId) {
+        List<UserMonthAlgorithmStats> rows = new ArrayList<>();
+        for (int algorithmId = 0; algorithmId < algorithmCounts.length; algorithmId++) {
+            if (algorithmCounts[algorithmId] > 0) {
+                rows.add(UserMonthAlgorithmStats.builder()
+                        .userId(userId)
+                        .statMonth(getMonthStart())
+                        .algorithmId(algorithmId)
+                        .solvedCount(algorithmCounts[algorithmId])
+                        .build());
+            }
+        }
+        return rows;
+    }
+
+    // 풀이한 알고리즘 id 목록 (풀이 수 desc, algorithmId asc)
+    public int[] rankedAlgorithmIds() {
+        return SolveCounts.rankedIds(algorithmCounts);
+    }
+
+    // 평균 티어 점수 (풀이 없으면 null)
+    public Double getAverageTierScore() {
+        return TierTrend.average(tierScoreSum, totalSolved);
+    }
+
+    public YearMonth getYearMonth() {
+        return yearMonth;
+    }
+
+    public LocalDate getMonthStart() {
+        return yearMonth.atDay(1);
+    }
+
+    public int getTotalSolved() {
+        return totalSolved;
+    }
+
+    public int getTierScoreSum() {
+        return tierScoreSum;
+    }
+
+    public int getSolvedDayMask() {
+        return solvedDayMask;
+    }
+
+    public int getSolvedDays() {
+        return Integer.bitCount(solvedDayMask);
+    }
+
+    public int getDayCount(int dayOfMonth) {
+        return dayCounts[dayOfMonth - 1];
+    }
+
+    public int getDayTierScoreSum(int dayOfMonth) {
+        return dayTierScoreSums[dayOfMonth - 1];
+    }
+
+    public int getTierCount(ProblemTier tier) {
+        return tierCounts[tier.ordinal()];
+    }
+
+    public int getAlgorithmCount(int algorithmId) {
+        return algorithmId < algorithmCounts.length ? algorithmCounts[algorithmId] : 0;
+    }
+
+    // 일자별 풀이 수 (읽기 전용, index 0 = 1일)
+    int[] dayCounts() {
+        return dayCounts;
+    }
+
+    // 일자별 티어 점수 합계 (읽기 전용, index 0 = 1일)
+    int[] dayTierScoreSums() {
+        return dayTierScoreSums;
+    }
+
+    // 티어별 풀이 수 (읽기 전용, ProblemTier 순서)
+    int[] tierCounts() {
+        return tierCounts;
+    }
+
+    // 태그 기준 축별 풀이 수 (읽기 전용, HexagonAxis 순서)
+    int[] tagAxisCounts() {
+        return tagAxisCounts;
+    }
+
+    // 알고리즘별 풀이 수 (읽기 전용, index = algorithm_id)
+    int[] algorithmCounts() {
+        return algorithmCounts;
+    }
+
+    private void ensureAlgorithmCapacity(int algorithmId) {
+        algorithmCounts = SolveCounts.ensureCapacity(algorithmCounts, algorithmId);
+    }
+
+    private static void copyInto(int[] source, int[] target) {
+        if (source != null) {
+            System.arraycopy(source, 0, target, 0, Math.min(source.length, target.length));
+        }
+    }
+
+}
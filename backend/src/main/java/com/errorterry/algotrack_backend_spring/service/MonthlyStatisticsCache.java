@@ -0,0 +1,135 @@
+package com.errorterry.algotrack_backend_spring.service;
+
+import com.errorterry.algotrack_backend_spring.dto.MonthlyStatisticsResponseDto;
+import com.errorterry.algotrack_backend_spring.dto.StatisticsMonthlySummaryResponseDto;
+import com.errorterry.algotrack_backend_spring.event.SolvedLogBatchRecordedEvent;
+import com.errorterry.algotrack_backend_spring.event.SolvedLogRecordedEvent;
+import com.errorterry.algotrack_backend_spring.event.WeeklyGoalChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// 월간 통계 응답 캐시 (userId + 월 기준)
+// - 크기 / TTL 기준 제거
+// - solved_log 기록, 주간 목표 변경 커밋 후 해당 사용자/월만 무효화
+// - 계산 중인 키를 무효화하면 계산이 끝난 뒤 제거되므로, 커밋 이전 데이터로 만든 값이 남지 않음
+// - 항목마다 계산 시점의 사용자 데이터 버전을 함께 보관, 요청 버전보다 낮으면 다시 계산
+//   (무효화 이벤트가 없는 쓰기 : 가져오기 CLI 등 다른 프로세스 / 커밋 직후 무효화 전 요청)
+// - 플랫폼 순위는 다른 사용자 풀이로도 바뀌므로 캐시하지 않고 조회 시 메모리 분포에서 계산해 붙임
+//   (분포와 같은 기록된 알고리즘 기준 축별 풀이 수를 함께 보관, 태그 기준 육각형 값은 순위에 쓰지 않음)
+@Component
+public class MonthlyStatisticsCache {
+
+    private final StatisticsService statisticsService;
+    private final PlatformRankingService platformRankingService;
+    private final Cache<Key, Entry> cache;
+    private final LongAdder invalidationCount = new LongAdder();
+
+    public MonthlyStatisticsCache(
+            StatisticsService statisticsService,
+            PlatformRankingService platformRankingService,
+            @Value("${statistics.cache.maximum-size:10000}") long maximumSize,
+            @Value("${statistics.cache.ttl:10m}") Duration ttl
+    ) {
+        this.statisticsService = statisticsService;
+        this.platformRankingService = platformRankingService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    // 캐시 조회, 없거나 version 보다 오래된 값이면 StatisticsService로 계산
+    // - version : 계산 전에 읽은 사용자 데이터 버전 (UserDataVersionService.version)
+    public MonthlyStatisticsResponseDto getMonthlySummary(Integer userId, LocalDate baseDate, long version) {
+        Key key = new Key(userId, YearMonth.from(baseDate));
+        Entry entry = cache.get(key, k -> new Entry(version, statisticsService.getMonthlySummaryWithRankingAxes(userId, baseDate)));
+        if (entry.version() < version) {
+            entry = cache.asMap().compute(key, (k, existing) -> (existing != null && existing.version() >= version)
+                    ? existing
+                    : new Entry(version, statisticsService.getMonthlySummaryWithRankingAxes(userId, baseDate)));
+        }
+        MonthlyStatisticsResponseDto cached = entry.summary().response();
+
+        // 같은 달의 다른 기준일 요청이면 baseDate만 교체
+        StatisticsMonthlySummaryResponseDto summary = cached.getSummary();
+        if (!baseDate.equals(summary.getBaseDate())) {
+            summary = summary.toBuilder().baseDate(baseDate).build();
+        }
+
+        return cached.toBuilder()
+                .summary(summary)
+                .ranking(platformRankingService.getRanking(
+                        YearMonth.from(baseDate),
+                        summary.getTotalSolved(),
+                        entry.summary().rankingAxisSolved()
+                ))
+                .build();
+    }
+
+    // 특정 사용자/월 무효화
+    public void evict(Integer userId, YearMonth yearMonth) {
+        cache.invalidate(new Key(userId, yearMonth));
+        invalidationCount.increment();
+    }
+
+    // 문제 풀이 기록 -> 해당 월 + 다음 달(지난 달 대비 난이도 추세 사용) 무효화
+    @TransactionalEventListener
+    public void onSolvedLogRecorded(SolvedLogRecordedEvent event) {
+        YearMonth yearMonth = YearMonth.from(event.getSolvedDate());
+        evict(event.getUserId(), yearMonth);
+        evict(event.getUserId(), yearMonth.plusMonths(1));
+    }
+
+    // 일괄 기록 -> 기록된 월 + 각 다음 달 무효화
+    @TransactionalEventListener
+    public void onSolvedLogBatchRecorded(SolvedLogBatchRecordedEvent event) {
+        event.getSolvedDates().stream()
+                .map(YearMonth::from)
+                .distinct()
+                .forEach(yearMonth -> {
+                    evict(event.getUserId(), yearMonth);
+                    evict(event.getUserId(), yearMonth.plusMonths(1));
+                });
+    }
+
+    // 주간 목표 변경 -> 해당 주가 걸친 월 무효화 (목표 통계는 해당 월만 사용)
+    @TransactionalEventListener
+    public void onWeeklyGoalChanged(WeeklyGoalChangedEvent event) {
+        LocalDate weekStartDate = event.getWeekStartDate();
+        evict(event.getUserId(), YearMonth.from(weekStartDate));
+        evict(event.getUserId(), YearMonth.from(weekStartDate.plusDays(6)));
+    }
+
+    // 캐시 통계 (hit / miss / eviction)
+    public Map<String, Object> stats() {
+        CacheStats stats = cache.stats();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", cache.estimatedSize());
+        result.put("hit_count", stats.hitCount());
+        result.put("miss_count", stats.missCount());
+        result.put("hit_rate", stats.hitRate());
+        result.put("eviction_count", stats.evictionCount());
+        result.put("invalidation_count", invalidationCount.sum());
+        return result;
+    }
+
+    private record Key(Integer userId, YearMonth yearMonth) {
+    }
+
+    private record Entry(long version, StatisticsService.MonthlySummary summary) {
+    }
+
+}
@@ -0,0 +1,379 @@
+package com.errorterry.algotrack_backend_spring.service;
+
+import com.errorterry.algotrack_backend_spring.domain.HexagonAxis;
+import com.errorterry.algotrack_backend_spring.dto.StatisticsRankingAxisDto;
+import com.errorterry.algotrack_backend_spring.dto.StatisticsRankingResponseDto;
+import com.errorterry.algotrack_backend_spring.event.SolvedLogBatchRecordedEvent;
+import com.errorterry.algotrack_backend_spring.event.SolvedLogRecordedEvent;
+import com.errorterry.algotrack_backend_spring.repository.RankingStaleMonthRepository;
+import com.errorterry.algotrack_backend_spring.repository.SolvedLogCursorRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 플랫폼 월간 순위 ("이번 달 X% 사용자보다 많이 풀었어요")
+// - 월별 풀이 수 분포(MonthRankingSketch)를 메모리에 보관, 조회는 버킷 합산만 수행
+// - solved_log 기록 커밋 후 이벤트로 증분 반영 (이벤트의 월/축 풀이 수는 롤업 갱신 후 값)
+// - 주기적으로 solved_log 에서 재생성해 누락/중복 반영을 바로잡음
+// - 서버 밖의 쓰기(가져오기 CLI)는 ranking_stale_month 표시를 주기적으로 확인해 해당 월만 재생성
+// - 월별 분포 버전 : 증분 반영 / 교체마다 증가 (월간 통계 ETag 에 포함 -> 순위가 바뀌면 304 로 응답하지 않음)
+// - 재생성 중 들어온 이벤트는 사용자별 최신 값(pending)으로 모았다가 조회 값과 큰 쪽으로 병합
+//   (이벤트 커밋이 조회 스냅숏 이전이면 조회에도 포함되므로 증분으로 더하면 두 번 셈)
+// - 분포가 없는 월은 요청 스레드에서 만들지 않고 백그라운드 재생성 예약 후 "준비 중" 응답
+@Slf4j
+@Service
+public class PlatformRankingService {
+
+    private final SolvedLogCursorRepository solvedLogCursorRepository;
+    private final RankingStaleMonthRepository rankingStaleMonthRepository;
+    private final AlgorithmCatalog algorithmCatalog;
+    private final Cache<YearMonth, MonthRankingSketch> sketches;
+    private final long maxMonths;
+
+    // 재생성 중인 월에 기록된 사용자별 풀이 수
+    private final Map<YearMonth, PendingSolves> pendingSolves = new ConcurrentHashMap<>();
+
+    // 조회 시 예약된 재생성 (월 단위 중복 예약 방지)
+    private final Set<YearMonth> requestedMonths = ConcurrentHashMap.newKeySet();
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ranking-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 이벤트 반영(read) / 새 분포 교체(write) 배타 처리
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    // 월 단위 재생성 직렬화
+    private final Object rebuildLock = new Object();
+
+    // 월별 분포 버전 (월마다 단조 증가하도록 전체 공용 순번에서 발급)
+    private final AtomicLong versionSequence = new AtomicLong();
+    private final Map<YearMonth, Long> monthVersions = new ConcurrentHashMap<>();
+
+    // 마지막으로 반영한 월별 재생성 표시 시각 (ranking_stale_month)
+    private final Map<YearMonth, LocalDateTime> seenStaleMarks = new ConcurrentHashMap<>();
+
+    public PlatformRankingService(
+            SolvedLogCursorRepository solvedLogCursorRepository,
+            RankingStaleMonthRepository rankingStaleMonthRepository,
+            AlgorithmCatalog algorithmCatalog,
+            @Value("${statistics.ranking.max-months:24}") long maxMonths
+    ) {
+        this.solvedLogCursorRepository = solvedLogCursorRepository;
+        this.rankingStaleMonthRepository = rankingStaleMonthRepository;
+        this.algorithmCatalog = algorithmCatalog;
+        this.maxMonths = maxMonths;
+        this.sketches = Caffeine.newBuilder()
+                .maximumSize(maxMonths)
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    // 월간 통계 결과(총 풀이 수, 축별 풀이 수)로 순위 계산
+    // - axisSolved : 기록된 알고리즘 기준 축별 풀이 수 (HexagonAxis 순서)
+    //   분포 / 증분 이벤트(user_month_stats.axis_counts)와 같은 기준이어야 함 (태그 기준 육각형 값을 넘기지 않음)
+    // - 분포가 없는 월이면 재생성만 예약하고 ready=false 반환 (완료 시 월 버전 증가 -> ETag 변경)
+    public StatisticsRankingResponseDto getRanking(
+            YearMonth yearMonth,
+            long totalSolved,
+            long[] axisSolved
+    ) {
+        MonthRankingSketch sketch = sketches.getIfPresent(yearMonth);
+        if (sketch == null) {
+            requestRebuild(yearMonth);
+            return StatisticsRankingResponseDto.builder()
+                    .ready(false)
+                    .axes(List.of())
+                    .build();
+        }
+
+        List<StatisticsRankingAxisDto> axes = new ArrayList<>(HexagonAxis.count());
+        for (HexagonAxis axis : HexagonAxis.values()) {
+            axes.add(StatisticsRankingAxisDto.builder()
+                    .axis(axis.getCode())
+                    .label(axis.getLabel())
+                    .percentile(sketch.axisPercentile(axis.ordinal(), axisSolved[axis.ordinal()]))
+                    .build());
+        }
+
+        return StatisticsRankingResponseDto.builder()
+                .ready(true)
+                .participantCount(sketch.participantCount())
+                .percentile(sketch.overallPercentile(totalSolved))
+                .axes(axes)
+                .build();
+    }
+
+    // 문제 풀이 기록 -> 보관 중인 월 분포 / 재생성 중인 월의 사용자별 최신 값에 반영
+    @TransactionalEventListener
+    public void onSolvedLogRecorded(SolvedLogRecordedEvent event) {
+        YearMonth yearMonth = YearMonth.from(event.getSolvedDate());
+        int axis = algorithmCatalog.axisOrdinal(event.getAlgorithmId());
+
+        swapLock.readLock().lock();
+        try {
+            MonthRankingSketch sketch = sketches.getIfPresent(yearMonth);
+            if (sketch != null) {
+                sketch.recordSolve(event.getMonthTotalSolved(), axis, event.getMonthAxisSolved());
+                touch(yearMonth);
+            }
+            PendingSolves solves = pendingSolves.get(yearMonth);
+            if (solves != null) {
+                solves.record(event.getUserId(), event.getMonthTotalSolved(), axis, event.getMonthAxisSolved());
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    // 일괄 기록 -> 기록된 월마다 사용자 값을 반영 전 -> 반영 후로 이동 (재생성 중인 월은 pending 에 최신 값 기록)
+    @TransactionalEventListener
+    public void onSolvedLogBatchRecorded(SolvedLogBatchRecordedEvent event) {
+        swapLock.readLock().lock();
+        try {
+            for (SolvedLogBatchRecordedEvent.MonthSolvedCounts counts : event.getMonthCounts()) {
+                YearMonth yearMonth = counts.yearMonth();
+                MonthRankingSketch sketch = sketches.getIfPresent(yearMonth);
+                if (sketch != null) {
+                    sketch.raiseUser(counts.before(), counts.after());
+                    touch(yearMonth);
+                }
+                PendingSolves solves = pendingSolves.get(yearMonth);
+                if (solves != null) {
+                    solves.record(event.getUserId(), counts.after());
+                }
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    // 가져오기 CLI 가 표시한 월 중 보관 중인 분포만 재생성 예약
+    // - 표시 시각이 마지막으로 본 값과 다르면 재생성 (이미 예약 / 실행 중이라 예약하지 못했으면 다음 확인 때 다시 시도)
+    // - 보관 중이 아닌 월은 다음 조회 때 solved_log 에서 새로 만들어지므로 표시만 기록
+    @Scheduled(
+            initialDelayString = "${statistics.ranking.initial-delay-ms:10000}",
+            fixedDelayString = "${statistics.ranking.stale-check-interval-ms:60000}"
+    )
+    public void rebuildStaleMonths() {
+        YearMonth oldest = YearMonth.now().minusMonths(maxMonths - 1);
+        rankingStaleMonthRepository.findMarkedSince(oldest).forEach((yearMonth, markedAt) -> {
+            if (markedAt.equals(seenStaleMarks.get(yearMonth))) {
+                return;
+            }
+            if (sketches.getIfPresent(yearMonth) == null || requestRebuild(yearMonth)) {
+                seenStaleMarks.put(yearMonth, markedAt);
+            }
+        });
+    }
+
+    // 주기적 재생성 (이번 달 / 지난 달 + 보관 중인 월)
+    @Scheduled(
+            initialDelayString = "${statistics.ranking.initial-delay-ms:10000}",
+            fixedDelayString = "${statistics.ranking.rebuild-interval-ms:1800000}"
+    )
+    public void rebuildTrackedMonths() {
+        YearMonth now = YearMonth.now();
+
+        Set<YearMonth> months = new TreeSet<>(sketches.asMap().keySet());
+        months.add(now);
+        months.add(now.minusMonths(1));
+
+        for (YearMonth yearMonth : months) {
+            rebuild(yearMonth);
+        }
+    }
+
+    // 월 분포 버전 (증분 반영 / 교체마다 증가, 분포가 없으면 0)
+    public long version(YearMonth yearMonth) {
+        return monthVersions.getOrDefault(yearMonth, 0L);
+    }
+
+    private void touch(YearMonth yearMonth) {
+        monthVersions.merge(yearMonth, versionSequence.incrementAndGet(), Math::max);
+    }
+
+    // 보관 중인 월별 참여자 수 (모니터링용)
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        new TreeMap<>(sketches.asMap()).forEach((yearMonth, sketch) ->
+                result.put(yearMonth.toString(), sketch.participantCount()));
+        return result;
+    }
+
+    // 월 분포 재생성 예약 (보관 범위 밖의 월은 예약하지 않음 -> 캐시에서 서로 밀어내지 않도록)
+    // - 반환 : 새로 예약했는지 여부 (이미 예약 / 실행 중이거나 범위 밖이면 false)
+    private boolean requestRebuild(YearMonth yearMonth) {
+        YearMonth now = YearMonth.now();
+        if (yearMonth.isAfter(now) || yearMonth.isBefore(now.minusMonths(maxMonths - 1))) {
+            return false;
+        }
+        if (!requestedMonths.add(yearMonth)) {
+            return false;
+        }
+        try {
+            rebuildExecutor.execute(() -> {
+                try {
+                    rebuild(yearMonth);
+                } catch (RuntimeException e) {
+                    log.warn("플랫폼 순위 분포 생성 실패 : {}", yearMonth, e);
+                } finally {
+                    requestedMonths.remove(yearMonth);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            requestedMonths.remove(yearMonth);
+            return false;
+        }
+    }
+
+    // 특정 월 분포를 solved_log 기준으로 재생성 후 교체
+    // - 조회 전에 pending 등록 -> 조회 스냅숏 이후 커밋된 풀이는 반드시 pending 에 들어옴
+    // - 교체는 쓰기 잠금 안에서 수행 -> 이벤트는 pending 또는 새 분포 중 한쪽에만 반영
+    private void rebuild(YearMonth yearMonth) {
+        synchronized (rebuildLock) {
+            PendingSolves solves = new PendingSolves();
+            pendingSolves.put(yearMonth, solves);
+            try {
+                MonthRankingSketch fresh = new MonthRankingSketch();
+                UserAxisFolder folder = new UserAxisFolder(fresh);
+
+                solvedLogCursorRepository.streamUserAxisCountsBySolvedDateBetween(
+                        yearMonth.atDay(1),
+                        yearMonth.atEndOfMonth(),
+                        folder::accept
+                );
+                folder.flush();
+
+                swapLock.writeLock().lock();
+                try {
+                    solves.applyTo(fresh, folder);
+                    sketches.put(yearMonth, fresh);
+                    pendingSolves.remove(yearMonth);
+                    touch(yearMonth);
+                } finally {
+                    swapLock.writeLock().unlock();
+                }
+            } finally {
+                pendingSolves.remove(yearMonth, solves);
+            }
+        }
+    }
+
+    // 재생성 중 이벤트로 들어온 사용자별 최신 풀이 수 ({총 풀이 수, 축별 풀이 수...}, 항목마다 최대값 유지)
+    private static final class PendingSolves {
+
+        private final Map<Integer, int[]> latestByUser = new ConcurrentHashMap<>();
+
+        private void record(Integer userId, int totalSolved, int axis, int axisSolved) {
+            latestByUser.compute(userId, (key, latest) -> {
+                if (latest == null) {
+                    latest = new int[HexagonAxis.count() + 1];
+                }
+                latest[0] = Math.max(latest[0], totalSolved);
+                latest[axis + 1] = Math.max(latest[axis + 1], axisSolved);
+                return latest;
+            });
+        }
+
+        // 일괄 기록 반영 후 값 ({총 풀이 수, 축별 풀이 수...})
+        private void record(Integer userId, int[] counts) {
+            latestByUser.compute(userId, (key, latest) -> {
+                if (latest == null) {
+                    return counts.clone();
+                }
+                for (int i = 0; i < latest.length; i++) {
+                    latest[i] = Math.max(latest[i], counts[i]);
+                }
+                return latest;
+            });
+        }
+
+        private void applyTo(MonthRankingSketch sketch, UserAxisFolder folder) {
+            latestByUser.forEach((userId, latest) -> sketch.raiseUser(folder.scanned(userId), latest));
+        }
+    }
+
+    // user_id 순으로 들어오는 (사용자, 축, 풀이 수) 행을 사용자 1명 단위로 모음
+    // - 사용자별 조회 값도 user_id 정렬 배열로 보관 (재생성 중 이벤트 병합 시 이진 탐색)
+    private static final class UserAxisFolder {
+
+        private static final int STRIDE = HexagonAxis.count() + 1;
+
+        private final MonthRankingSketch sketch;
+        private final long[] axisSolved = new long[HexagonAxis.count()];
+        private int currentUserId = -1;
+        private int totalSolved = 0;
+
+        private int[] userIds = new int[1024];
+        private int[] counts = new int[1024 * STRIDE];
+        private int size = 0;
+
+        private UserAxisFolder(MonthRankingSketch sketch) {
+            this.sketch = sketch;
+        }
+
+        private void accept(int userId, int hexagonAxis, int solvedCount) {
+            if (userId != currentUserId) {
+                flush();
+                currentUserId = userId;
+            }
+            axisSolved[HexagonAxis.fromOrdinal(hexagonAxis).ordinal()] += solvedCount;
+            totalSolved += solvedCount;
+        }
+
+        private void flush() {
+            if (totalSolved > 0) {
+                sketch.addUser(totalSolved, axisSolved);
+                append();
+            }
+            Arrays.fill(axisSolved, 0L);
+            totalSolved = 0;
+        }
+
+        private void append() {
+            if (size == userIds.length) {
+                userIds = Arrays.copyOf(userIds, size * 2);
+                counts = Arrays.copyOf(counts, size * 2 * STRIDE);
+            }
+            userIds[size] = currentUserId;
+            int offset = size * STRIDE;
+            counts[offset] = totalSolved;
+            for (int i = 0; i < axisSolved.length; i++) {
+                counts[offset + i + 1] = (int) axisSolved[i];
+            }
+            size++;
+        }
+
+        // 조회에 포함된 사용자의 {총 풀이 수, 축별 풀이 수...} (없으면 null)
+        private int[] scanned(int userId) {
+            int index = Arrays.binarySearch(userIds, 0, size, userId);
+            if (index < 0) {
+                return null;
+            }
+            return Arrays.copyOfRange(counts, index * STRIDE, (index + 1) * STRIDE);
+        }
+    }
+
+}
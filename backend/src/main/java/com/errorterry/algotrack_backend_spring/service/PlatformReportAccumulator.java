@@ -0,0 +1,91 @@
+package com.errorterry.algotrack_backend_spring.service;
+
+import com.errorterry.algotrack_backend_spring.domain.HexagonAxis;
+import com.errorterry.algotrack_backend_spring.domain.ProblemTier;
+
+// 플랫폼 리포트 구간 집계 (원시 배열 누적)
+// - 구간 하나는 스레드 하나에서 user_id 순으로 채우고, 구간끼리는 merge 로 합침
+// - 구간은 user_id 가 겹치지 않으므로 사용자 수는 단순 합산
+final class PlatformReportAccumulator {
+
+    private long totalSolved;
+    private int activeUsers;
+    private final long[] tierCounts = new long[ProblemTier.count()];
+    private final long[] axisCounts = new long[HexagonAxis.count()];
+    private final int[] axisUsers = new int[HexagonAxis.count()];
+    private int partitionCount;
+
+    // 현재 사용자 (축 사용자 수 계산용)
+    private int currentUserId = -1;
+    private int currentAxisMask;
+
+    PlatformReportAccumulator() {
+    }
+
+    // user_id 순으로 들어오는 (사용자, 축, 티어, 풀이 수) 행 반영
+    void add(int userId, int axisOrdinal, int tierOrdinal, int solvedCount) {
+        if (userId != currentUserId) {
+            flushUser();
+            currentUserId = userId;
+            activeUsers++;
+        }
+        totalSolved += solvedCount;
+        tierCounts[tierOrdinal] += solvedCount;
+        axisCounts[axisOrdinal] += solvedCount;
+        currentAxisMask |= 1 << axisOrdinal;
+    }
+
+    // 구간 조회 완료
+    PlatformReportAccumulator finishPartition() {
+        flushUser();
+        currentUserId = -1;
+        partitionCount++;
+        return this;
+    }
+
+    // 다른 구간 결과 합치기 (두 구간 모두 finishPartition 이후)
+    PlatformReportAccumulator merge(PlatformReportAccumulator other) {
+        totalSolved += other.totalSolved;
+        activeUsers += other.activeUsers;
+        for (int i = 0; i < tierCounts.length; i++) {
+            tierCounts[i] += other.tierCounts[i];
+        }
+        for (int i = 0; i < axisCounts.length; i++) {
+            axisCounts[i] += other.axisCounts[i];
+            axisUsers[i] += other.axisUsers[i];
+        }
+        partitionCount += other.partitionCount;
+        return this;
+    }
+
+    private void flushUser() {
+        for (int mask = currentAxisMask; mask != 0; mask &= mask - 1) {
+            axisUsers[Integer.numberOfTrailingZeros(mask)]++;
+        }
+        currentAxisMask = 0;
+    }
+
+    long totalSolved() {
+        return totalSolved;
+    }
+
+    int activeUsers() {
+        return activeUsers;
+    }
+
+    long[] tierCounts() {
+        return tierCounts.clone();
+    }
+
+    long[] axisCounts() {
+        return axisCounts.clone();
+    }
+
+    int[] axisUsers() {
+        return axisUsers.clone();
+    }
+
+    int partitionCount() {
+        return partitionCount;
+    }
+}
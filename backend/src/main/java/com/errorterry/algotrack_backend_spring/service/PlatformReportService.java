@@ -0,0 +1,206 @@
+package com.errorterry.algotrack_backend_spring.service;
+
+import com.errorterry.algotrack_backend_spring.domain.HexagonAxis;
+import com.errorterry.algotrack_backend_spring.domain.PlatformMonthlyReport;
+import com.errorterry.algotrack_backend_spring.domain.ProblemTier;
+import com.errorterry.algotrack_backend_spring.dto.PlatformMonthlyReportResponseDto;
+import com.errorterry.algotrack_backend_spring.repository.PlatformMonthlyReportRepository;
+import com.errorterry.algotrack_backend_spring.repository.SolvedLogCursorRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 플랫폼 월간 리포트 (전체 풀이 수 / 활동 사용자 수 / 티어 분포 / 육각형 축 분포)
+// - 사용자 id 범위를 구간으로 나눠 ForkJoinPool 에서 병렬 집계
+// - 구간마다 별도 읽기 전용 커서 조회 -> 원시 배열 누적(PlatformReportAccumulator) -> 병합
+// - 결과는 platform_monthly_report 에 저장, 조회는 PK 1건
+@Slf4j
+@Service
+public class PlatformReportService {
+
+    private final SolvedLogCursorRepository solvedLogCursorRepository;
+    private final PlatformMonthlyReportRepository platformMonthlyReportRepository;
+    private final AlgorithmCatalog algorithmCatalog;
+
+    private final ForkJoinPool pool;
+    private final int partitionSize;
+    private final Duration timeout;
+
+    // 리포트 생성 직렬화 (동시에 두 번 돌지 않도록)
+    private final ReentrantLock generateLock = new ReentrantLock();
+
+    public PlatformReportService(
+            SolvedLogCursorRepository solvedLogCursorRepository,
+            PlatformMonthlyReportRepository platformMonthlyReportRepository,
+            AlgorithmCatalog algorithmCatalog,
+            @Value("${statistics.platform-report.parallelism:4}") int parallelism,
+            @Value("${statistics.platform-report.partition-size:2000}") int partitionSize,
+            @Value("${statistics.platform-report.timeout:10m}") Duration timeout
+    ) {
+        this.solvedLogCursorRepository = solvedLogCursorRepository;
+        this.platformMonthlyReportRepository = platformMonthlyReportRepository;
+        this.algorithmCatalog = algorithmCatalog;
+        this.pool = new ForkJoinPool(parallelism);
+        this.partitionSize = Math.max(partitionSize, 1);
+        this.timeout = timeout;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    // 저장된 리포트 조회
+    public PlatformMonthlyReportResponseDto getReport(YearMonth yearMonth) {
+        PlatformMonthlyReport report = platformMonthlyReportRepository.findById(yearMonth.atDay(1))
+                .orElseThrow(() -> new IllegalArgumentException("생성되지 않은 리포트"));
+        return toDto(report);
+    }
+
+    // 매월 1일 지난 달 리포트 생성
+    @Scheduled(cron = "${statistics.platform-report.cron:0 0 4 1 * *}")
+    public void generatePreviousMonth() {
+        YearMonth previous = YearMonth.now().minusMonths(1);
+        try {
+            generate(previous);
+        } catch (RuntimeException e) {
+            log.warn("플랫폼 월간 리포트 생성 실패 : {}", previous, e);
+        }
+    }
+
+    // 특정 월 리포트 생성 후 저장 (timeout 안에 끝나지 않으면 중단)
+    public PlatformMonthlyReportResponseDto generate(YearMonth yearMonth) {
+        if (!generateLock.tryLock()) {
+            throw new IllegalStateException("플랫폼 리포트 생성 중");
+        }
+        try {
+            long startedAt = System.nanoTime();
+            int[] userIdRange = solvedLogCursorRepository.findUserIdRange();
+
+            PartitionTask root = new PartitionTask(yearMonth, userIdRange[0], userIdRange[1]);
+            PlatformReportAccumulator result = await(pool.submit(root));
+
+            PlatformMonthlyReport report = PlatformMonthlyReport.builder()
+                    .reportMonth(yearMonth.atDay(1))
+                    .totalSolved(result.totalSolved())
+                    .activeUsers(result.activeUsers())
+                    .tierCounts(result.tierCounts())
+                    .axisCounts(result.axisCounts())
+                    .axisUsers(result.axisUsers())
+                    .partitionCount(result.partitionCount())
+                    .elapsedMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt))
+                    .generatedAt(LocalDateTime.now())
+                    .build();
+
+            return toDto(platformMonthlyReportRepository.save(report));
+        } finally {
+            generateLock.unlock();
+        }
+    }
+
+    private PlatformReportAccumulator await(ForkJoinTask<PlatformReportAccumulator> task) {
+        try {
+            return task.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            task.cancel(true);
+            throw new IllegalStateException("플랫폼 리포트 생성 시간 초과 (" + timeout + ")");
+        } catch (InterruptedException e) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("플랫폼 리포트 생성 중단");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private PlatformMonthlyReportResponseDto toDto(PlatformMonthlyReport report) {
+        Map<String, Long> tierSolved = new LinkedHashMap<>();
+        for (ProblemTier tier : ProblemTier.values()) {
+            tierSolved.put(tier.getLabel(), report.getTierCounts()[tier.ordinal()]);
+        }
+
+        Map<String, Long> axisSolved = new LinkedHashMap<>();
+        Map<String, Integer> axisUsers = new LinkedHashMap<>();
+        for (HexagonAxis axis : HexagonAxis.values()) {
+            axisSolved.put(axis.getCode(), report.getAxisCounts()[axis.ordinal()]);
+            axisUsers.put(axis.getCode(), report.getAxisUsers()[axis.ordinal()]);
+        }
+
+        return PlatformMonthlyReportResponseDto.builder()
+                .month(YearMonth.from(report.getReportMonth()).toString())
+                .totalSolved(report.getTotalSolved())
+                .activeUsers(report.getActiveUsers())
+                .tierSolved(tierSolved)
+                .axisSolved(axisSolved)
+                .axisUsers(axisUsers)
+                .partitionCount(report.getPartitionCount())
+                .elapsedMs(report.getElapsedMs())
+                .generatedAt(report.getGeneratedAt())
+                .build();
+    }
+
+    // 사용자 id 구간 [fromUserId, toUserId] 집계
+    // - partitionSize 이하가 될 때까지 반으로 나눠 fork, 결과는 join 후 merge
+    private final class PartitionTask extends RecursiveTask<PlatformReportAccumulator> {
+
+        private final YearMonth yearMonth;
+        private final int fromUserId;
+        private final int toUserId;
+
+        private PartitionTask(YearMonth yearMonth, int fromUserId, int toUserId) {
+            this.yearMonth = yearMonth;
+            this.fromUserId = fromUserId;
+            this.toUserId = toUserId;
+        }
+
+        @Override
+        protected PlatformReportAccumulator compute() {
+            if ((long) toUserId - fromUserId < partitionSize) {
+                return scan();
+            }
+
+            int mid = (int) (((long) fromUserId + toUserId) >>> 1);
+            PartitionTask left = new PartitionTask(yearMonth, fromUserId, mid);
+            PartitionTask right = new PartitionTask(yearMonth, mid + 1, toUserId);
+            left.fork();
+            PlatformReportAccumulator rightResult = right.compute();
+            return left.join().merge(rightResult);
+        }
+
+        private PlatformReportAccumulator scan() {
+            PlatformReportAccumulator accumulator = new PlatformReportAccumulator();
+            if (fromUserId > toUserId) {
+                return accumulator.finishPartition();
+            }
+
+            solvedLogCursorRepository.streamUserAlgorithmLevelCounts(
+                    fromUserId,
+                    toUserId,
+                    yearMonth.atDay(1),
+                    yearMonth.atEndOfMonth(),
+                    (int) Math.max(timeout.toSeconds(), 1),
+                    (userId, algorithmId, problemLevel, solvedCount) -> accumulator.add(
+                            userId,
+                            algorithmCatalog.axisOrdinal(algorithmId),
+                            ProblemTier.fromLevel(problemLevel).ordinal(),
+                            solvedCount
+                    )
+            );
+            return accumulator.finishPartition();
+        }
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.errorterry.algotrack_backend_spring.service;
+
+import com.errorterry.algotrack_backend_spring.repository.ProblemRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 문제 카탈로그 (problem 테이블 불변 스냅샷)
+// - 기동 시 problem 전체를 읽어 problem_id 정렬 배열 + 문제별 태그 비트(long 4개)로 보관
+// - problem_id 조회는 이진 탐색 (문제마다 박싱 키 / 맵 엔트리 / long[] 객체를 만들지 않음)
+// - 태그 비트 번호 = algorithm_id - 1 (algorithm_id 1 ~ 256)
+// - reload 시 새 스냅샷을 만든 뒤 참조만 교체 (읽는 쪽은 잠금 없음)
+@Component
+@RequiredArgsConstructor
+public class ProblemCatalog {
+
+    public static final int TAG_WORDS = 4;
+    public static final int MAX_TAGGED_ALGORITHM_ID = TAG_WORDS * Long.SIZE;
+
+    private final ProblemRepository problemRepository;
+    private final AlgorithmCatalog algorithmCatalog;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    // algorithm_id -> 태그 비트 번호 (범위 밖이면 -1)
+    public static int tagBit(int algorithmId) {
+        return (algorithmId >= 1 && algorithmId <= MAX_TAGGED_ALGORITHM_ID) ? algorithmId - 1 : -1;
+    }
+
+    @PostConstruct
+    public void reload() {
+        SnapshotBuilder builder = new SnapshotBuilder();
+        problemRepository.streamAllTags(builder::add);
+        snapshot = builder.build();
+    }
+
+    public boolean isEmpty() {
+        return snapshot.size() == 0;
+    }
+
+    // 태그 기준 육각형 축 집계기 (현재 스냅샷 + 알고리즘 축 마스크 고정)
+    ProblemTagCounter newTagCounter() {
+        Snapshot current = snapshot;
+        return new ProblemTagCounter(current.problemIds(), current.tagBits(), current.size(), algorithmCatalog.axisTagMasks());
+    }
+
+    // 적재된 문제 수 / 문제당 평균 태그 수 / 메모리 (모니터링용)
+    public Map<String, Object> stats() {
+        Snapshot current = snapshot;
+
+        long tags = 0;
+        long[] tagBits = current.tagBits();
+        for (int i = 0; i < current.size() * TAG_WORDS; i++) {
+            tags += Long.bitCount(tagBits[i]);
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("problems", current.size());
+        result.put("avg_tags_per_problem", current.size() > 0 ? (double) tags / current.size() : 0.0);
+        result.put("bytes", (long) current.problemIds().length * Integer.BYTES + (long) tagBits.length * Long.BYTES);
+        return result;
+    }
+
+    // 불변 스냅샷 (배열은 생성 후 수정하지 않음, 앞쪽 size 개만 유효)
+    // - tagBits[i * TAG_WORDS + w] = problemIds[i] 의 w 번째 태그 워드
+    private record Snapshot(int[] problemIds, long[] tagBits, int size) {
+
+        private static final Snapshot EMPTY = new Snapshot(new int[0], new long[0], 0);
+    }
+
+    // problem_id 오름차순 행을 받아 배열로 적재
+    private static final class SnapshotBuilder {
+
+        private int[] problemIds = new int[1024];
+        private long[] tagBits = new long[1024 * TAG_WORDS];
+        private int size;
+
+        void add(int problemId, long tagBits0, long tagBits1, long tagBits2, long tagBits3) {
+            if (size == problemIds.length) {
+                problemIds = Arrays.copyOf(problemIds, size * 2);
+                tagBits = Arrays.copyOf(tagBits, size * 2 * TAG_WORDS);
+            }
+            problemIds[size] = problemId;
+            int offset = size * TAG_WORDS;
+            tagBits[offset] = tagBits0;
+            tagBits[offset + 1] = tagBits1;
+            tagBits[offset + 2] = tagBits2;
+            tagBits[offset + 3] = tagBits3;
+            size++;
+        }
+
+        Snapshot build() {
+            return new Snapshot(Arrays.copyOf(problemIds, size), Arrays.copyOf(tagBits, size * TAG_WORDS), size);
+        }
+    }
+}
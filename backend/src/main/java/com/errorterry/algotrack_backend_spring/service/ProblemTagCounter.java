@@ -0,0 +1,73 @@
+package com.errorterry.algotrack_backend_spring.service;
+
+import com.errorterry.algotrack_backend_spring.domain.HexagonAxis;
+
+import java.util.Arrays;
+
+// 풀이한 문제의 태그 기준 육각형 축별 풀이 수 누적
+// - 문제 태그(long 4개) AND 축 태그 마스크 != 0 이면 해당 축 +1 (태그가 여러 축이면 모든 축에 반영)
+// - 카탈로그에 없는 문제는 기록된 algorithm_id 1개를 태그로 사용 (기존 단일 알고리즘 집계와 동일)
+// - 어느 축에도 걸리지 않으면 IMPLEMENTATION 축 (AlgorithmCatalog.foldByAxis 와 동일)
+// - 요청 1건 안에서만 사용 (스레드 안전하지 않음)
+final class ProblemTagCounter {
+
+    private static final int WORDS = ProblemCatalog.TAG_WORDS;
+    private static final int DEFAULT_AXIS = HexagonAxis.IMPLEMENTATION.ordinal();
+
+    private final int[] problemIds;
+    private final long[] tagBits;
+    private final int size;
+    private final long[] axisTagMasks;
+    private final int axisCount = HexagonAxis.count();
+
+    private final long[] axisSolved = new long[axisCount];
+    private final long[] tags = new long[WORDS];
+
+    ProblemTagCounter(int[] problemIds, long[] tagBits, int size, long[] axisTagMasks) {
+        this.problemIds = problemIds;
+        this.tagBits = tagBits;
+        this.size = size;
+        this.axisTagMasks = axisTagMasks;
+    }
+
+    void add(int problemId, int algorithmId) {
+        int axisMask = axisMask(problemId, algorithmId);
+        for (int axis = 0; axis < axisCount; axis++) {
+            if ((axisMask & (1 << axis)) != 0) {
+                axisSolved[axis]++;
+            }
+        }
+    }
+
+    // 문제 1개가 걸친 축 비트 (bit = HexagonAxis.ordinal, 누적하지 않음)
+    // - 월간 롤업(tag_axis_counts) 증분 반영용
+    int axisMask(int problemId, int algorithmId) {
+        int index = Arrays.binarySearch(problemIds, 0, size, problemId);
+        if (index >= 0) {
+            System.arraycopy(tagBits, index * WORDS, tags, 0, WORDS);
+        } else {
+            Arrays.fill(tags, 0L);
+            int bit = ProblemCatalog.tagBit(algorithmId);
+            if (bit >= 0) {
+                tags[bit >>> 6] = 1L << bit;
+            }
+        }
+
+        int axisMask = 0;
+        for (int axis = 0; axis < axisCount; axis++) {
+            int offset = axis * WORDS;
+            if (((tags[0] & axisTagMasks[offset])
+                    | (tags[1] & axisTagMasks[offset + 1])
+                    | (tags[2] & axisTagMasks[offset + 2])
+                    | (tags[3] & axisTagMasks[offset + 3])) != 0) {
+                axisMask |= 1 << axis;
+            }
+        }
+        return axisMask != 0 ? axisMask : 1 << DEFAULT_AXIS;
+    }
+
+    // 축별 풀이 문제 수 (index = HexagonAxis.ordinal)
+    long[] axisSolved() {
+        return axisSolved;
+    }
+}
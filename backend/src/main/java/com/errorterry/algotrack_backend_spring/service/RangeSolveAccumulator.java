@@ -0,0 +1,150 @@
+package com.errorterry.algotrack_backend_spring.service;
+
+import com.errorterry.algotrack_backend_spring.domain.ProblemTier;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+
+// 임의 기간(from ~ to) 풀이 집계
+// - solved_log 행을 순서와 무관하게 한 건씩 반영 (전체 목록을 메모리에 올리지 않음)
+// - 메모리는 기간 길이에만 비례 (일자 비트맵 + 월별 카운터), 풀이 수와 무관
+public class RangeSolveAccumulator {
+
+    private final LocalDate from;
+    private final LocalDate to;
+    private final YearMonth firstMonth;
+
+    private final long[] solvedDayBits;        // bit (from 기준 경과 일수)
+    private final long[] weekdaySolved = new long[7];
+    private final int[] tierCounts = new int[ProblemTier.count()];
+    private int[] algorithmCounts = new int[0];
+
+    // 월별 시계열
+    private final int[] monthTotals;
+    private final long[] monthTierScoreSums;
+
+    private long totalSolved;
+    private long tierScoreSum;
+
+    public RangeSolveAccumulator(LocalDate from, LocalDate to) {
+        this.from = from;
+        this.to = to;
+        this.firstMonth = YearMonth.from(from);
+
+        int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        int months = (int) ChronoUnit.MONTHS.between(firstMonth, YearMonth.from(to)) + 1;
+
+        this.solvedDayBits = new long[(days + 63) / 64];
+        this.monthTotals = new int[months];
+        this.monthTierScoreSums = new long[months];
+    }
+
+    // 풀이 1건 반영
+    public void add(LocalDate solvedDate, int algorithmId, ProblemTier tier) {
+        int dayIndex = (int) ChronoUnit.DAYS.between(from, solvedDate);
+        int monthIndex = monthIndex(solvedDate);
+        int score = tier.getScore();
+
+        totalSolved++;
+        tierScoreSum += score;
+        solvedDayBits[dayIndex >>> 6] |= 1L << dayIndex;
+        weekdaySolved[solvedDate.getDayOfWeek().getValue() % 7]++;
+        tierCounts[tier.ordinal()]++;
+
+        algorithmCounts = SolveCounts.ensureCapacity(algorithmCounts, algorithmId);
+        algorithmCounts[algorithmId]++;
+
+        monthTotals[monthIndex]++;
+        monthTierScoreSums[monthIndex] += score;
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public int getTotalDays() {
+        return (int) ChronoUnit.DAYS.between(from, to) + 1;
+    }
+
+    public long getTotalSolved() {
+        return totalSolved;
+    }
+
+    public int getSolvedDays() {
+        int count = 0;
+        for (long bits : solvedDayBits) {
+            count += Long.bitCount(bits);
+        }
+        return count;
+    }
+
+    public Double getAverageTierScore() {
+        return TierTrend.average(tierScoreSum, totalSolved);
+    }
+
+    public int getMonthCount() {
+        return monthTotals.length;
+    }
+
+    public YearMonth getMonth(int monthIndex) {
+        return firstMonth.plusMonths(monthIndex);
+    }
+
+    // 해당 월 중 기간에 포함된 첫날 / 마지막 날
+    public LocalDate getMonthStart(int monthIndex) {
+        LocalDate monthStart = getMonth(monthIndex).atDay(1);
+        return monthStart.isBefore(from) ? from : monthStart;
+    }
+
+    public LocalDate getMonthEnd(int monthIndex) {
+        LocalDate monthEnd = getMonth(monthIndex).atEndOfMonth();
+        return monthEnd.isAfter(to) ? to : monthEnd;
+    }
+
+    public int getMonthTotal(int monthIndex) {
+        return monthTotals[monthIndex];
+    }
+
+    public int getMonthSolvedDays(int monthIndex) {
+        int startIndex = (int) ChronoUnit.DAYS.between(from, getMonthStart(monthIndex));
+        int endIndex = (int) ChronoUnit.DAYS.between(from, getMonthEnd(monthIndex));
+
+        int count = 0;
+        for (int dayIndex = startIndex; dayIndex <= endIndex; dayIndex++) {
+            if ((solvedDayBits[dayIndex >>> 6] & (1L << dayIndex)) != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public Double getMonthAverageTierScore(int monthIndex) {
+        int total = monthTotals[monthIndex];
+        return TierTrend.average(monthTierScoreSums[monthIndex], total);
+    }
+
+    // 요일별 풀이 수 (0=일, 1=월, ..., 6=토, 읽기 전용)
+    long[] weekdaySolved() {
+        return weekdaySolved;
+    }
+
+    // 티어별 풀이 수 (읽기 전용, ProblemTier 순서)
+    int[] tierCounts() {
+        return tierCounts;
+    }
+
+    // 알고리즘별 풀이 수 (읽기 전용, index = algorithm_id)
+    int[] algorithmCounts() {
+        return algorithmCounts;
+    }
+
+    private int monthIndex(LocalDate date) {
+        return (date.getYear() - firstMonth.getYear()) * 12 + date.getMonthValue() - firstMonth.getMonthValue();
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.errorterry.algotrack_backend_spring.service;
+
+import java.time.LocalDate;
+
+// 검증 + 알고리즘 id 변환까지 끝난 풀이 1건 (기록 / 수집 대기열 공통)
+// - problemLevel : 0~30 으로 보정된 난이도 (null = 정보 없음)
+public record ResolvedSolve(
+        int userId,
+        int algorithmId,
+        int problemId,
+        LocalDate solvedDate,
+        Integer problemLevel
+) {
+}
@@ -0,0 +1,62 @@
+package com.errorterry.algotrack_backend_spring.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 사용자별 풀이 수 분포 (HDR 방식 로그-선형 버킷)
+// - 0~63 은 값마다 1개 버킷 (정확)
+// - 64 이상은 2의 거듭제곱 구간마다 32개 버킷 (상대 오차 1/32 이하)
+// - int 전체 범위를 864개 버킷으로 표현
+// - 증감은 원자적으로 처리 (조회와 동시에 갱신 가능)
+final class SolveCountHistogram {
+
+    private static final int EXACT_BITS = 6;
+    private static final int EXACT_LIMIT = 1 << EXACT_BITS;          // 64
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS; // 32
+    static final int BUCKET_COUNT = EXACT_LIMIT + (Integer.SIZE - 1 - EXACT_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong population = new AtomicLong();
+
+    // 사용자 1명 추가
+    void add(int value) {
+        counts.incrementAndGet(bucketIndex(value));
+        population.incrementAndGet();
+    }
+
+    // 사용자 1명의 값 변경 (oldValue -> newValue)
+    void move(int oldValue, int newValue) {
+        int from = bucketIndex(oldValue);
+        int to = bucketIndex(newValue);
+        if (from != to) {
+            counts.decrementAndGet(from);
+            counts.incrementAndGet(to);
+        }
+    }
+
+    long population() {
+        return population.get();
+    }
+
+    // value 보다 작은 버킷에 속한 사용자 수 (같은 버킷은 제외하므로 64 이상에서는 보수적으로 계산)
+    long countBelow(int value) {
+        int bucket = bucketIndex(value);
+        long below = 0;
+        for (int i = 0; i < bucket; i++) {
+            below += counts.get(i);
+        }
+        return below;
+    }
+
+    // 값 -> 버킷 인덱스 (음수는 0으로 취급)
+    static int bucketIndex(int value) {
+        if (value < EXACT_LIMIT) {
+            return Math.max(value, 0);
+        }
+        int exponent = Integer.SIZE - 1 - Integer.numberOfLeadingZeros(value);
+        int subBucket = (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return EXACT_LIMIT + (exponent - EXACT_BITS) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.errorterry.algotrack_backend_spring.service;
+
+import java.util.Arrays;
+
+// id 인덱스 카운터 배열 공통 유틸 (월간/기간 집계에서 사용)
+final class SolveCounts {
+
+    private SolveCounts() {
+    }
+
+    // index 가 들어갈 수 있도록 배열 확장
+    static int[] ensureCapacity(int[] counts, int index) {
+        if (index < counts.length) {
+            return counts;
+        }
+        return Arrays.copyOf(counts, Math.max(index + 1, counts.length * 2));
+    }
+
+    // 카운트가 있는 id 목록 (카운트 desc, id asc)
+    static int[] rankedIds(int[] counts) {
+        int size = 0;
+        for (int count : counts) {
+            if (count > 0) {
+                size++;
+            }
+        }
+
+        int[] ids = new int[size];
+        int n = 0;
+        for (int id = 0; id < counts.length; id++) {
+            if (counts[id] > 0) {
+                ids[n++] = id;
+            }
+        }
+
+        // 삽입 정렬 (id 오름차순 입력 + 안정 정렬 -> 동률은 id asc 유지)
+        for (int i = 1; i < ids.length; i++) {
+            int id = ids[i];
+            int j = i - 1;
+            while (j >= 0 && counts[ids[j]] < counts[id]) {
+                ids[j + 1] = ids[j];
+                j--;
+            }
+            ids[j + 1] = id;
+        }
+        return ids;
+    }
+
+}
@@ -0,0 +1,181 @@
+package com.errorterry.algotrack_backend_spring.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 풀이 수집 대기열 로컬 append-only 저널
+// - 한 줄 = 풀이 1건 (ASCII), 끝 오프셋(byte) 으로 위치 표시
+// - append 는 호출 쪽에서 직렬화 (대기열 순서 = 저널 순서)
+// - sync 는 여러 스레드가 동시에 호출 가능 : 먼저 들어온 스레드가 그때까지 쓰인 내용을 한 번에 fsync (group commit)
+// - checkpoint 파일에는 DB 커밋이 끝난 오프셋만 기록 (재기동 시 그 뒤부터 재처리)
+final class SolveIngestJournal implements AutoCloseable {
+
+    private static final String JOURNAL_FILE = "solve-ingest.journal";
+    private static final String CHECKPOINT_FILE = "solve-ingest.checkpoint";
+
+    // 모두 처리된 저널이 이 크기를 넘으면 비움
+    private static final long COMPACT_THRESHOLD_BYTES = 4L * 1024 * 1024;
+
+    private final Path checkpointPath;
+    private final Path checkpointTempPath;
+    private final FileChannel channel;
+    private final Object forceLock = new Object();
+
+    private volatile long writtenOffset;
+    private volatile long durableOffset;
+    private volatile long committedOffset;
+    private final AtomicLong fsyncCount = new AtomicLong();
+
+    @FunctionalInterface
+    interface LineHandler {
+        void handle(String line, long endOffset);
+    }
+
+    SolveIngestJournal(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        this.checkpointPath = directory.resolve(CHECKPOINT_FILE);
+        this.checkpointTempPath = directory.resolve(CHECKPOINT_FILE + ".tmp");
+        this.channel = FileChannel.open(
+                directory.resolve(JOURNAL_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE
+        );
+
+        this.writtenOffset = channel.size();
+        this.durableOffset = writtenOffset;
+
+        // 비운 직후 checkpoint 기록 전에 종료된 경우 checkpoint 가 파일 크기보다 클 수 있음
+        long checkpoint = readCheckpoint();
+        this.committedOffset = Math.min(checkpoint, writtenOffset);
+        if (committedOffset != checkpoint) {
+            writeCheckpoint(committedOffset);
+        }
+    }
+
+    // 한 줄 추가 (fsync 전), 끝 오프셋 반환
+    long append(byte[] line) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(line);
+        long position = writtenOffset;
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        writtenOffset = position;
+        return position;
+    }
+
+    // offset 까지 디스크 반영 보장
+    void sync(long offset) throws IOException {
+        if (durableOffset >= offset) {
+            return;
+        }
+        synchronized (forceLock) {
+            if (durableOffset >= offset) {
+                return;
+            }
+            long target = writtenOffset;
+            channel.force(false);
+            durableOffset = target;
+            fsyncCount.incrementAndGet();
+        }
+    }
+
+    // offset 까지 DB 커밋 완료 기록
+    void commit(long offset) throws IOException {
+        if (offset <= committedOffset) {
+            return;
+        }
+        writeCheckpoint(offset);
+        committedOffset = offset;
+    }
+
+    // 모두 처리됐고 충분히 커졌으면 저널 비우기 (append 와 같은 잠금 안에서 호출)
+    boolean compactIfDrained() throws IOException {
+        long written = writtenOffset;
+        if (committedOffset != written || written < COMPACT_THRESHOLD_BYTES) {
+            return false;
+        }
+        channel.truncate(0);
+        channel.force(true);
+        writtenOffset = 0;
+        durableOffset = 0;
+        writeCheckpoint(0);
+        committedOffset = 0;
+        return true;
+    }
+
+    // checkpoint 이후 줄 재처리 (기동 시 1회, append 와 같은 잠금 안에서 호출)
+    // - 마지막 줄이 줄바꿈 없이 끊겨 있으면 (쓰는 중 종료) 잘라냄
+    void replay(LineHandler handler) throws IOException {
+        long position = committedOffset;
+        long lineStart = position;
+        StringBuilder line = new StringBuilder();
+        ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+
+        while (channel.read(buffer, position) > 0) {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                byte b = buffer.get();
+                position++;
+                if (b == '\n') {
+                    handler.handle(line.toString(), position);
+                    line.setLength(0);
+                    lineStart = position;
+                } else {
+                    line.append((char) b);
+                }
+            }
+            buffer.clear();
+        }
+
+        if (lineStart < writtenOffset) {
+            channel.truncate(lineStart);
+            channel.force(true);
+            writtenOffset = lineStart;
+            durableOffset = lineStart;
+        }
+    }
+
+    long writtenOffset() {
+        return writtenOffset;
+    }
+
+    long committedOffset() {
+        return committedOffset;
+    }
+
+    long fsyncCount() {
+        return fsyncCount.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private long readCheckpoint() throws IOException {
+        if (!Files.exists(checkpointPath)) {
+            return 0L;
+        }
+        String value = Files.readString(checkpointPath, StandardCharsets.US_ASCII).trim();
+        return value.isEmpty() ? 0L : Long.parseLong(value);
+    }
+
+    // 임시 파일 기록 + fsync 후 이름 교체 (중간에 종료돼도 이전 / 새 값 중 하나만 남음)
+    private void writeCheckpoint(long offset) throws IOException {
+        try (FileChannel out = FileChannel.open(
+                checkpointTempPath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING
+        )) {
+            out.write(ByteBuffer.wrap(Long.toString(offset).getBytes(StandardCharsets.US_ASCII)));
+            out.force(true);
+        }
+        Files.move(checkpointTempPath, checkpointPath,
+                StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+}
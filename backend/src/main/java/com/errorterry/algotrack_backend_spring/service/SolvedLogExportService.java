@@ -0,0 +1,155 @@
+package com.errorterry.algotrack_backend_spring.service;
+
+import com.errorterry.algotrack_backend_spring.domain.ProblemTier;
+import com.errorterry.algotrack_backend_spring.repository.SolvedLogCursorRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+
+// 풀이 기록 내보내기 (CSV / NDJSON)
+// - 커서에서 읽은 행을 엔티티/리스트 없이 바로 출력 스트림에 기록
+@Service
+@RequiredArgsConstructor
+public class SolvedLogExportService {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final SolvedLogCursorRepository solvedLogCursorRepository;
+
+    @Getter
+    public enum Format {
+        CSV("text/csv; charset=UTF-8", "csv"),
+        NDJSON("application/x-ndjson; charset=UTF-8", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        // 요청 파라미터 -> 형식 (생략 시 CSV)
+        public static Format from(String value) {
+            if (value == null || value.isBlank()) {
+                return CSV;
+            }
+            for (Format format : values()) {
+                if (format.name().equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new IllegalArgumentException("format 값 오류 (csv | ndjson)");
+        }
+    }
+
+    // 사용자 전체 풀이 기록을 out 에 기록 (StreamingResponseBody 스레드에서 호출)
+    // - CSV 헤더는 바로 flush 해서 첫 바이트를 먼저 전송
+    public void export(Integer userId, Format format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+        if (format == Format.CSV) {
+            writer.write("problemId,solvedDate,algorithmName,problemLevel,problemTier\n");
+        }
+        writer.flush();
+
+        try {
+            solvedLogCursorRepository.streamExportRowsByUserId(userId, (problemId, solvedDate, algorithmName, problemLevel) -> {
+                try {
+                    if (format == Format.CSV) {
+                        writeCsvRow(writer, problemId, solvedDate.toString(), algorithmName, problemLevel);
+                    } else {
+                        writeJsonRow(writer, problemId, solvedDate.toString(), algorithmName, problemLevel);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 종료 등 -> 커서 조회 중단 후 원래 예외 전달
+            throw e.getCause();
+        }
+
+        writer.flush();
+    }
+
+    private void writeCsvRow(Writer writer, int problemId, String solvedDate, String algorithmName, int problemLevel)
+            throws IOException {
+        writer.write(Integer.toString(problemId));
+        writer.write(',');
+        writer.write(solvedDate);
+        writer.write(',');
+        writeCsvField(writer, algorithmName);
+        writer.write(',');
+        if (problemLevel >= 0) {
+            writer.write(Integer.toString(problemLevel));
+        }
+        writer.write(',');
+        writer.write(ProblemTier.fromLevel(problemLevel).getLabel());
+        writer.write('\n');
+    }
+
+    private void writeJsonRow(Writer writer, int problemId, String solvedDate, String algorithmName, int problemLevel)
+            throws IOException {
+        writer.write("{\"problemId\":");
+        writer.write(Integer.toString(problemId));
+        writer.write(",\"solvedDate\":\"");
+        writer.write(solvedDate);
+        writer.write("\",\"algorithmName\":");
+        writeJsonString(writer, algorithmName);
+        writer.write(",\"problemLevel\":");
+        writer.write(problemLevel >= 0 ? Integer.toString(problemLevel) : "null");
+        writer.write(",\"problemTier\":\"");
+        writer.write(ProblemTier.fromLevel(problemLevel).getLabel());
+        writer.write("\"}\n");
+    }
+
+    // 쉼표 / 따옴표 / 줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번
+    private void writeCsvField(Writer writer, String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    private void writeJsonString(Writer writer, String value) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> writer.write("\\\"");
+                case '\\' -> writer.write("\\\\");
+                case '\n' -> writer.write("\\n");
+                case '\r' -> writer.write("\\r");
+                case '\t' -> writer.write("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        writer.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        writer.write(c);
+                    }
+                }
+            }
+        }
+        writer.write('"');
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.errorterry.algotrack_backend_spring.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.List;
+
+// 명령행 가져오기 실행
+// - java -jar app.jar --import=history.csv [--import-user=사용자ID]
+// - --import 가 없으면 아무 것도 하지 않음 (일반 서버 실행)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SolvedLogImportRunner implements ApplicationRunner {
+
+    public static final String OPTION = "import";
+    private static final String USER_OPTION = "import-user";
+
+    private final SolvedLogImportService solvedLogImportService;
+
+    // --import 옵션 포함 여부 (애플리케이션 시작 전 실행 모드 판단용)
+    public static boolean isImportMode(String[] args) {
+        for (String arg : args) {
+            if (arg.startsWith("--" + OPTION + "=")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<String> files = args.getOptionValues(OPTION);
+        if (files == null || files.isEmpty()) {
+            return;
+        }
+
+        Integer userId = null;
+        List<String> users = args.getOptionValues(USER_OPTION);
+        if (users != null && !users.isEmpty()) {
+            try {
+                userId = Integer.valueOf(users.get(0));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("--import-user 값 오류 : " + users.get(0));
+            }
+        }
+
+        for (String file : files) {
+            SolvedLogImportService.ImportResult result = solvedLogImportService.importCsv(Path.of(file), userId);
+            long seconds = Math.max(result.elapsed().toSeconds(), 1);
+            log.info("가져오기 완료 : {} (적재 {}행, insert {}건, 알 수 없는 알고리즘 {}행, 알 수 없는 사용자 {}행, "
+                            + "사용자 {}명, 롤업 재생성 실패 {}명, {}초, {}행/분)",
+                    file,
+                    result.copied(),
+                    result.inserted(),
+                    result.skippedUnknownAlgorithm(),
+                    result.skippedUnknownUser(),
+                    result.affectedUsers(),
+                    result.rebuildFailedUsers(),
+                    result.elapsed().toSeconds(),
+                    result.copied() * 60 / seconds);
+        }
+    }
+
+}
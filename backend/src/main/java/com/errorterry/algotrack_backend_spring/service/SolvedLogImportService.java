@@ -0,0 +1,127 @@
+package com.errorterry.algotrack_backend_spring.service;
+
+import com.errorterry.algotrack_backend_spring.repository.SolvedLogImportRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+
+// 풀이 기록 대량 가져오기 (마이그레이션 / 대량 기록 사용자 온보딩용, --import 실행 모드)
+// 1) 트랜잭션 1 : 파일 -> COPY -> 스테이징 -> solved_log 병합 + daily_goal 반영 (전부 SQL, 행 단위 처리 없음)
+//    + 반영된 사용자 데이터 버전 +1 (서버의 ETag / 월간 통계 / 히트맵 캐시가 가져온 기록을 바로 반영)
+//    + 기록된 월을 ranking_stale_month 에 표시 (서버가 해당 월 순위 분포 재생성)
+// 2) 사용자별 트랜잭션 : 월간 롤업 / 스트릭 재생성
+//    - 한 트랜잭션에 모으면 영속성 컨텍스트가 사용자 수만큼 커지므로 분리
+//    - 재생성이 실패해도 병합은 유지 -> POST /api/_debug/rollup/rebuild, /streak/rebuild (userId, debug-api.enabled=true, 관리자) 로 복구
+// - 서버 프로세스와 별개로 실행되므로 무효화 이벤트 대신 users.data_version 으로 서버에 알림
+//   (버전을 보지 않는 푼 문제 캐시는 가져온 문제를 "모름"으로 남기고 DB 경로(ON CONFLICT)에서 걸러짐)
+@Slf4j
+@Service
+public class SolvedLogImportService {
+
+    private final SolvedLogImportRepository solvedLogImportRepository;
+    private final UserMonthStatsService userMonthStatsService;
+    private final UserStreakService userStreakService;
+    private final UserDataVersionService userDataVersionService;
+    private final TransactionTemplate transactionTemplate;
+
+    public SolvedLogImportService(
+            SolvedLogImportRepository solvedLogImportRepository,
+            UserMonthStatsService userMonthStatsService,
+            UserStreakService userStreakService,
+            UserDataVersionService userDataVersionService,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.solvedLogImportRepository = solvedLogImportRepository;
+        this.userMonthStatsService = userMonthStatsService;
+        this.userStreakService = userStreakService;
+        this.userDataVersionService = userDataVersionService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 가져오기 결과
+    // - skipped* : 스테이징 행 기준 (이미 기록된 문제 / 파일 내 중복은 copied - inserted 에 포함)
+    public record ImportResult(
+            long copied,
+            int inserted,
+            long skippedUnknownAlgorithm,
+            long skippedUnknownUser,
+            int affectedUsers,
+            int rebuildFailedUsers,
+            Duration elapsed
+    ) {
+    }
+
+    // CSV 파일 가져오기
+    // - userId 가 null 이면 userId 컬럼이 포함된 파일 (userId,problemId,solvedDate,algorithmName,problemLevel,problemTier)
+    // - userId 가 있으면 해당 사용자의 내보내기 파일 형식 그대로 (problemId,solvedDate,algorithmName,problemLevel,problemTier)
+    public ImportResult importCsv(Path file, Integer userId) {
+        if (!Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("가져오기 파일 없음 : " + file);
+        }
+        long startedAt = System.nanoTime();
+
+        // 1) COPY + 병합 (트랜잭션 1)
+        long[] counts = new long[3];
+        int[][] affected = {new int[64]};
+        int[] affectedCount = new int[1];
+        int inserted = transactionTemplate.execute(status -> {
+            solvedLogImportRepository.createStaging(userId);
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                counts[0] = solvedLogImportRepository.copyIn(reader, userId == null);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            solvedLogImportRepository.analyzeStaging();
+            log.info("가져오기 스테이징 적재 : {}행 ({}ms)", counts[0], (System.nanoTime() - startedAt) / 1_000_000);
+
+            counts[1] = solvedLogImportRepository.countUnknownAlgorithms();
+            counts[2] = solvedLogImportRepository.countUnknownUsers();
+            int merged = solvedLogImportRepository.merge((affectedUserId, insertedCount) -> {
+                if (affectedCount[0] == affected[0].length) {
+                    affected[0] = Arrays.copyOf(affected[0], affectedCount[0] * 2);
+                }
+                affected[0][affectedCount[0]++] = affectedUserId;
+            });
+            userDataVersionService.bumpAll(Arrays.stream(affected[0], 0, affectedCount[0]).boxed().toArray(Integer[]::new));
+            return merged;
+        });
+        log.info("가져오기 병합 : {}건 insert, 사용자 {}명 ({}ms)",
+                inserted, affectedCount[0], (System.nanoTime() - startedAt) / 1_000_000);
+
+        // 2) 사용자별 월간 롤업 / 스트릭 재생성
+        int rebuildFailed = 0;
+        for (int i = 0; i < affectedCount[0]; i++) {
+            int affectedUserId = affected[0][i];
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    userMonthStatsService.rebuildUser(affectedUserId);
+                    userStreakService.rebuildUser(affectedUserId);
+                });
+            } catch (RuntimeException e) {
+                rebuildFailed++;
+                log.warn("가져오기 후 롤업 재생성 실패 : userId={}", affectedUserId, e);
+            }
+        }
+
+        return new ImportResult(
+                counts[0],
+                inserted,
+                counts[1],
+                counts[2],
+                affectedCount[0],
+                rebuildFailed,
+                Duration.ofNanos(System.nanoTime() - startedAt)
+        );
+    }
+
+}
@@ -0,0 +1,327 @@
+package com.errorterry.algotrack_backend_spring.service;
+
+import com.errorterry.algotrack_backend_spring.dto.SolvedLogRequestDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 풀이 기록 비동기 수집 대기열 (write-behind)
+// - sync  : 사용하지 않음 (요청 스레드에서 바로 기록)
+// - async : 검증 + 알고리즘 id 변환 후 로컬 저널에 추가(fsync) -> 202 응답
+//           drainer 스레드가 대기열을 묶음 단위로 꺼내 SQL 몇 번으로 기록 (SolvedLogService.recordResolvedSolves)
+// - 묶음 커밋 후 저널 checkpoint 갱신, 재기동 시 checkpoint 이후 줄을 다시 대기열에 넣음
+// - 같은 풀이를 두 번 처리해도 ON CONFLICT 로 건너뛰므로 커밋 ~ checkpoint 사이에 종료돼도 중복 반영 없음
+// - 대기열이 가득 차면 offer 가 false -> 호출 쪽에서 동기 기록
+@Slf4j
+@Component
+public class SolvedLogIngestQueue {
+
+    private static final String MODE_ASYNC = "async";
+    private static final long POLL_INTERVAL_MS = 200;
+
+    private final SolvedLogService solvedLogService;
+    private final boolean async;
+    private final Path journalDirectory;
+    private final int batchSize;
+    private final Duration retryBackoff;
+
+    private final BlockingQueue<Entry> queue;
+    // 저널 append + 대기열 추가를 한 번에 (대기열 순서 = 저널 순서)
+    private final ReentrantLock appendLock = new ReentrantLock();
+
+    private SolveIngestJournal journal;
+    private Thread drainer;
+    private volatile boolean running;
+
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong replayed = new AtomicLong();
+    private final AtomicLong drainedBatches = new AtomicLong();
+    private final AtomicLong drainedSolves = new AtomicLong();
+    private final AtomicLong insertedSolves = new AtomicLong();
+    private final AtomicLong droppedSolves = new AtomicLong();
+    private final AtomicLong drainFailures = new AtomicLong();
+    private final AtomicLong totalLagNanos = new AtomicLong();
+    private final AtomicLong maxLagNanos = new AtomicLong();
+    private final AtomicLong totalBatchNanos = new AtomicLong();
+    private final AtomicLong maxBatchNanos = new AtomicLong();
+
+    public SolvedLogIngestQueue(
+            SolvedLogService solvedLogService,
+            @Value("${solve-log.ingest.mode:sync}") String mode,
+            @Value("${solve-log.ingest.journal-dir:./data/solve-ingest}") String journalDirectory,
+            @Value("${solve-log.ingest.queue-capacity:10000}") int queueCapacity,
+            @Value("${solve-log.ingest.batch-size:500}") int batchSize,
+            @Value("${solve-log.ingest.retry-backoff:1s}") Duration retryBackoff
+    ) {
+        this.solvedLogService = solvedLogService;
+        this.async = MODE_ASYNC.equals(mode);
+        this.journalDirectory = Path.of(journalDirectory);
+        this.batchSize = Math.max(batchSize, 1);
+        this.retryBackoff = retryBackoff;
+        this.queue = new ArrayBlockingQueue<>(Math.max(queueCapacity, 1));
+    }
+
+    public boolean isAsync() {
+        return async;
+    }
+
+    // 기동 완료 후 저널 열기 -> drainer 시작 -> 미처리 줄 재처리
+    // - 재처리 중에는 appendLock 을 잡고 있으므로 새 요청은 재처리 줄 뒤에 붙음
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() throws IOException {
+        if (!async) {
+            return;
+        }
+
+        appendLock.lock();
+        try {
+            journal = new SolveIngestJournal(journalDirectory);
+            running = true;
+            drainer = new Thread(this::drainLoop, "solve-ingest-drainer");
+            drainer.setDaemon(true);
+            drainer.start();
+
+            journal.replay((line, endOffset) -> {
+                ResolvedSolve solve = decode(line);
+                if (solve == null) {
+                    log.warn("풀이 수집 저널 줄 형식 오류, 건너뜀 : {}", line);
+                    return;
+                }
+                try {
+                    queue.put(new Entry(solve, endOffset, System.nanoTime()));
+                    replayed.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("풀이 수집 저널 재처리 중단");
+                }
+            });
+            if (replayed.get() > 0) {
+                log.info("풀이 수집 저널 재처리 : {}건", replayed.get());
+            }
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    // 종료 시 drainer 는 진행 중인 묶음만 마치고 멈춤 (남은 줄은 다음 기동 때 재처리)
+    @PreDestroy
+    public void shutdown() throws IOException, InterruptedException {
+        if (drainer == null) {
+            return;
+        }
+        running = false;
+        drainer.join(TimeUnit.SECONDS.toMillis(30));
+        journal.close();
+    }
+
+    // 풀이 1건 접수 (검증 오류는 바로 예외)
+    // - 저널 fsync 까지 끝나면 true (접수 완료, 재기동해도 유실 없음)
+    // - sync 모드 / 아직 기동 전 / 대기열이 가득 차면 false -> 호출 쪽에서 동기 기록
+    public boolean offer(Integer userId, SolvedLogRequestDto request) {
+        if (!async || !running) {
+            return false;
+        }
+        ResolvedSolve solve = solvedLogService.resolve(userId, request);
+
+        long endOffset;
+        appendLock.lock();
+        try {
+            if (queue.remainingCapacity() == 0) {
+                rejected.incrementAndGet();
+                return false;
+            }
+            endOffset = journal.append(encode(solve));
+            queue.add(new Entry(solve, endOffset, System.nanoTime()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            appendLock.unlock();
+        }
+
+        // 잠금 밖에서 fsync (동시에 들어온 요청은 한 번의 fsync 로 함께 반영)
+        try {
+            journal.sync(endOffset);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        accepted.incrementAndGet();
+        return true;
+    }
+
+    private void drainLoop() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+        while (running || !batch.isEmpty()) {
+            try {
+                if (batch.isEmpty()) {
+                    Entry first = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                }
+                drain(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException | IOException e) {
+                // DB 연결 오류 등 -> 같은 묶음을 잠시 후 다시 처리 (종료 중이면 다음 기동 때 재처리)
+                drainFailures.incrementAndGet();
+                log.warn("풀이 수집 묶음 기록 실패, {} 후 재시도 ({}건)", retryBackoff, batch.size(), e);
+                if (!running) {
+                    return;
+                }
+                try {
+                    Thread.sleep(retryBackoff.toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    // 묶음 1개 기록 -> checkpoint 갱신
+    private void drain(List<Entry> batch) throws IOException {
+        long startedAt = System.nanoTime();
+        long lastOffset = batch.get(batch.size() - 1).endOffset();
+
+        // 아직 fsync 전인 줄이 있으면 먼저 디스크 반영 (접수 응답 전 종료된 요청이 DB 에만 남지 않도록)
+        journal.sync(lastOffset);
+
+        List<ResolvedSolve> solves = new ArrayList<>(batch.size());
+        for (Entry entry : batch) {
+            solves.add(entry.solve());
+        }
+
+        int inserted;
+        try {
+            inserted = solvedLogService.recordResolvedSolves(solves);
+        } catch (DataIntegrityViolationException e) {
+            // 탈퇴한 사용자 등 일부 항목 오류 -> 1건씩 기록하고 실패한 항목만 버림
+            inserted = drainOneByOne(solves);
+        }
+
+        journal.commit(lastOffset);
+
+        // 저널 비우기는 append 가 없을 때만 (재처리 중 / 접수 중이면 다음 묶음에서)
+        if (appendLock.tryLock()) {
+            try {
+                journal.compactIfDrained();
+            } finally {
+                appendLock.unlock();
+            }
+        }
+
+        long finishedAt = System.nanoTime();
+        for (Entry entry : batch) {
+            long lag = finishedAt - entry.acceptedAt();
+            totalLagNanos.addAndGet(lag);
+            maxLagNanos.accumulateAndGet(lag, Math::max);
+        }
+        long elapsed = finishedAt - startedAt;
+        totalBatchNanos.addAndGet(elapsed);
+        maxBatchNanos.accumulateAndGet(elapsed, Math::max);
+
+        drainedBatches.incrementAndGet();
+        drainedSolves.addAndGet(batch.size());
+        insertedSolves.addAndGet(inserted);
+    }
+
+    private int drainOneByOne(List<ResolvedSolve> solves) {
+        int inserted = 0;
+        for (ResolvedSolve solve : solves) {
+            try {
+                inserted += solvedLogService.recordResolvedSolves(List.of(solve));
+            } catch (DataIntegrityViolationException e) {
+                droppedSolves.incrementAndGet();
+                log.warn("풀이 수집 항목 기록 실패, 버림 : {}", solve, e);
+            }
+        }
+        return inserted;
+    }
+
+    // 저널 한 줄 : userId,algorithmId,problemId,solvedDate,problemLevel(없으면 빈 값)
+    private byte[] encode(ResolvedSolve solve) {
+        String line = solve.userId() + "," + solve.algorithmId() + "," + solve.problemId() + ","
+                + solve.solvedDate() + "," + (solve.problemLevel() == null ? "" : solve.problemLevel()) + "\n";
+        return line.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    // 형식 오류면 null
+    private ResolvedSolve decode(String line) {
+        String[] fields = line.split(",", -1);
+        if (fields.length != 5) {
+            return null;
+        }
+        try {
+            return new ResolvedSolve(
+                    Integer.parseInt(fields[0]),
+                    Integer.parseInt(fields[1]),
+                    Integer.parseInt(fields[2]),
+                    LocalDate.parse(fields[3]),
+                    fields[4].isEmpty() ? null : Integer.valueOf(fields[4])
+            );
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    // 대기열 깊이 / 처리량 / 접수 ~ 커밋 지연 / 묶음 처리 시간 (모니터링용)
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("mode", async ? MODE_ASYNC : "sync");
+        result.put("running", running);
+        result.put("queue_depth", queue.size());
+        result.put("queue_capacity", queue.size() + queue.remainingCapacity());
+        result.put("accepted", accepted.get());
+        result.put("rejected_full", rejected.get());
+        result.put("replayed", replayed.get());
+        result.put("drained_batches", drainedBatches.get());
+        result.put("drained_solves", drainedSolves.get());
+        result.put("inserted_solves", insertedSolves.get());
+        result.put("dropped_solves", droppedSolves.get());
+        result.put("drain_failures", drainFailures.get());
+
+        long batches = drainedBatches.get();
+        long solves = drainedSolves.get();
+        result.put("avg_lag_ms", solves > 0 ? totalLagNanos.get() / solves / 1_000_000.0 : 0.0);
+        result.put("max_lag_ms", maxLagNanos.get() / 1_000_000.0);
+        result.put("avg_batch_ms", batches > 0 ? totalBatchNanos.get() / batches / 1_000_000.0 : 0.0);
+        result.put("max_batch_ms", maxBatchNanos.get() / 1_000_000.0);
+
+        SolveIngestJournal current = journal;
+        if (current != null) {
+            result.put("journal_written_offset", current.writtenOffset());
+            result.put("journal_committed_offset", current.committedOffset());
+            result.put("journal_fsyncs", current.fsyncCount());
+        }
+        return result;
+    }
+
+    // 대기열 항목 (저널 끝 오프셋 / 접수 시각)
+    private record Entry(ResolvedSolve solve, long endOffset, long acceptedAt) {
+    }
+}
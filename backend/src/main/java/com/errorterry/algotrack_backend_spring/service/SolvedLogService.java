@@ -1,33 +1,79 @@
 package com.errorterry.algotrack_backend_spring.service;
 
 import com.errorterry.algotrack_backend_spring.domain.*;
+import com.errorterry.algotrack_backend_spring.dto.SolvedLogBatchItemResultDto;
+import com.errorterry.algotrack_backend_spring.dto.SolvedLogBatchRequestDto;
+import com.errorterry.algotrack_backend_spring.dto.SolvedLogBatchResponseDto;
 import com.errorterry.algotrack_backend_spring.dto.SolvedLogRequestDto;
+import com.errorterry.algotrack_backend_spring.event.SolvedLogBatchRecordedEvent;
+import com.errorterry.algotrack_backend_spring.event.SolvedLogRecordedEvent;
 import com.errorterry.algotrack_backend_spring.repository.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
 public class SolvedLogService {
 
-    private final SolvedLogRepository solvedLogRepository;
+    private final SolvedLogBatchRepository solvedLogBatchRepository;
     private final UserRepository userRepository;
-    private final AlgorithmRepository algorithmRepository;
+    private final AlgorithmCatalog algorithmCatalog;
     private final DailyGoalRepository dailyGoalRepository;
+    private final UserMonthStatsService userMonthStatsService;
+    private final UserStreakService userStreakService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int MAX_BATCH_SIZE = 5000;   // 일괄 기록 최대 항목 수
 
     // solved_log 기록 + daily_goal.solve_count 증가
-    // - userId + problemId 기준으로 기존 해결 이력이 있으면 PASS
+    // - userId + problemId 기준으로 기존 해결 이력이 있으면 PASS (INSERT ... ON CONFLICT DO NOTHING)
     // - 없으면
-    //  1) solved_log insert
-    //  2) 해당 날짜/알고리즘 daily_goal이 있으면 solve_count +1
+    //  1) solved_log insert (알고리즘은 카탈로그에서 id 로 변환, 존재 확인 / 사용자 조회 없이 SQL 1회)
+    //  2) 해당 날짜/알고리즘 daily_goal이 있으면 solve_count +1 (UPDATE 1회)
+    //  3) 월간 통계 롤업(user_month_stats) 반영
+    //  4) 연속 풀이(user_streak) 반영
     @Transactional
     public void recordSolvedAndIncreaseDailyGoal(
             Integer userId,
             SolvedLogRequestDto request
     ) {
+        ResolvedSolve solve = resolve(userId, request);
+        int algorithmId = solve.algorithmId();
+        int problemId = solve.problemId();
+        LocalDate solvedDate = solve.solvedDate();
+
+        // 1) solved_log insert (이미 기록된 문제면 건너뜀)
+        boolean inserted;
+        try {
+            inserted = solvedLogBatchRepository.insertIfAbsent(userId, algorithmId, problemId, solvedDate, solve.problemLevel());
+        } catch (DataIntegrityViolationException e) {
+            // users FK 위반만 존재하지 않는 사용자로 변환, 그 외 제약 위반은 그대로 전달
+            if (ConstraintViolations.isViolated(e, "fk_solved_log_users")) {
+                throw new IllegalArgumentException("존재하지 않는 사용자");
+            }
+            throw e;
+        }
+
+        if (!inserted) {
+            // 이미 기록된 문제면 solved_log / daily_goal 둘 다 PASS
+            return;
+        }
+
+        // 2) daily_goal 처리 (해당 날짜/알고리즘 목표가 있을 경우 solve_count +1, UPDATE 1회)
+        dailyGoalRepository.increaseSolveCount(userId, algorithmId, solvedDate);
+
+        // 3~5) 월간 롤업 / 스트릭 반영 + 기록 이벤트 발행
+        applyInserted(solve);
+    }
+
+    // 단건 요청 검증 + 알고리즘 이름 -> id 변환 (카탈로그 조회, SQL 없음)
+    public ResolvedSolve resolve(Integer userId, SolvedLogRequestDto request) {
         if (request == null) {
             throw new IllegalArgumentException("요청 값 NULL 오류");
         }
@@ -46,68 +92,315 @@ public class SolvedLogService {
             throw new IllegalArgumentException("solvedDate 값 NULL 오류");
         }
 
-        // 1) 이미 기록된 해결 이력이 있는지 체크
-        boolean exists = solvedLogRepository.existsByUserUserIdAndProblemId(userId, problemId);
-        if (exists) {
-            // 이미 기록된 문제 -> solved_log / daily_goal 둘 다 PASS
-            return;
+        Integer algorithmId = algorithmCatalog.idOf(algorithmName);
+        if (algorithmId == null) {
+            throw new IllegalArgumentException("존재하지 않는 알고리즘");
         }
 
-        // 2) User / Algorithm 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자"));
+        // problemTier : 난이도 숫자 그대로 저장 (티어 라벨은 조회 시 계산)
+        return new ResolvedSolve(userId, algorithmId, problemId, solvedDate, normalizeProblemLevel(request.getProblemTier()));
+    }
 
-        Algorithm algorithm = algorithmRepository.findByAlgorithmName(algorithmName)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 알고리즘"));
+    // 수집 대기열에서 꺼낸 풀이 묶음 기록 (여러 사용자 혼합)
+    // - solved_log 는 unnest + ON CONFLICT DO NOTHING 으로 SQL 1회 insert
+    // - daily_goal 은 (사용자, 알고리즘, 날짜)별 풀이 수로 묶어서 UPDATE 1회
+    // - insert 된 풀이만 사용자별로 묶어서 월간 롤업 / 스트릭 / 일괄 기록 이벤트 반영 (일괄 기록과 같은 결과)
+    // - 이미 기록된 풀이는 건너뛰므로 같은 묶음을 다시 넣어도 결과가 같음 (재처리 안전)
+    // - 반환 : insert 된 풀이 수
+    @Transactional
+    public int recordResolvedSolves(List<ResolvedSolve> solves) {
+        // 1) 묶음 내 중복 (사용자, 문제) 제거 (첫 항목만 처리)
+        Map<Long, ResolvedSolve> unique = new LinkedHashMap<>();
+        for (ResolvedSolve solve : solves) {
+            unique.putIfAbsent(SolvedLogBatchRepository.solveKey(solve.userId(), solve.problemId()), solve);
+        }
+        if (unique.isEmpty()) {
+            return 0;
+        }
 
-        Integer algorithmId = algorithm.getAlgorithmId();
+        int size = unique.size();
+        Integer[] userIds = new Integer[size];
+        Integer[] algorithmIds = new Integer[size];
+        Integer[] problemIds = new Integer[size];
+        String[] solvedDates = new String[size];
+        Integer[] problemLevels = new Integer[size];
+        int n = 0;
+        for (ResolvedSolve solve : unique.values()) {
+            userIds[n] = solve.userId();
+            algorithmIds[n] = solve.algorithmId();
+            problemIds[n] = solve.problemId();
+            solvedDates[n] = solve.solvedDate().toString();
+            problemLevels[n] = solve.problemLevel();
+            n++;
+        }
 
-        // 3) problemTier : 정수 -> 문자열 변환
-        String problemTier = convertProblemTierToLabel(request.getProblemTier());
+        // 2) solved_log 일괄 insert
+        Set<Long> insertedKeys = solvedLogBatchRepository.insertIgnoringSolvedForUsers(
+                userIds, algorithmIds, problemIds, solvedDates, problemLevels);
+        if (insertedKeys.isEmpty()) {
+            return 0;
+        }
 
-        // 4) solved_log 신규 저장
-        SolvedLog solvedLog = SolvedLog.builder()
-                .user(user)
-                .algorithm(algorithm)
-                .problemId(problemId)
-                .solvedDate(solvedDate)
-                .problemTier(problemTier)
-                .build();
+        // 3) daily_goal (사용자, 알고리즘, 날짜)별 풀이 수 묶음 (키 순서 = 행 잠금 순서)
+        List<ResolvedSolve> inserted = new ArrayList<>(insertedKeys.size());
+        Map<UserGoalKey, Integer> goalIncrements = new TreeMap<>(Comparator.comparing(UserGoalKey::userId)
+                .thenComparing(UserGoalKey::algorithmId)
+                .thenComparing(UserGoalKey::goalDate));
+        for (Map.Entry<Long, ResolvedSolve> entry : unique.entrySet()) {
+            if (insertedKeys.contains(entry.getKey())) {
+                ResolvedSolve solve = entry.getValue();
+                inserted.add(solve);
+                goalIncrements.merge(new UserGoalKey(solve.userId(), solve.algorithmId(), solve.solvedDate()), 1, Integer::sum);
+            }
+        }
+
+        Integer[] goalUserIds = new Integer[goalIncrements.size()];
+        Integer[] goalAlgorithmIds = new Integer[goalIncrements.size()];
+        String[] goalDates = new String[goalIncrements.size()];
+        Integer[] goalCounts = new Integer[goalIncrements.size()];
+        int g = 0;
+        for (Map.Entry<UserGoalKey, Integer> entry : goalIncrements.entrySet()) {
+            goalUserIds[g] = entry.getKey().userId();
+            goalAlgorithmIds[g] = entry.getKey().algorithmId();
+            goalDates[g] = entry.getKey().goalDate().toString();
+            goalCounts[g] = entry.getValue();
+            g++;
+        }
+        solvedLogBatchRepository.increaseDailyGoalsForUsers(goalUserIds, goalAlgorithmIds, goalDates, goalCounts);
+
+        // 4) 월간 롤업 / 스트릭 / 기록 이벤트 (insert 된 풀이만, 사용자 id 순)
+        // - 사용자마다 일괄 기록과 같은 경로로 반영 -> 월(오름차순) -> 스트릭 순으로 행 잠금, 풀이마다 SQL 을 보내지 않음
+        Map<Integer, List<ResolvedSolve>> insertedByUser = new TreeMap<>();
+        for (ResolvedSolve solve : inserted) {
+            insertedByUser.computeIfAbsent(solve.userId(), key -> new ArrayList<>()).add(solve);
+        }
+        for (Map.Entry<Integer, List<ResolvedSolve>> entry : insertedByUser.entrySet()) {
+            applyInsertedBatch(entry.getKey(), entry.getValue());
+        }
+        return inserted.size();
+    }
+
+    // insert 된 같은 사용자 풀이 묶음 후속 반영 (같은 트랜잭션)
+    // - 월간 롤업 증분 -> 스트릭 증분 -> 일괄 기록 이벤트 (HTTP 일괄 기록과 같은 순서)
+    private void applyInsertedBatch(Integer userId, List<ResolvedSolve> solves) {
+        int size = solves.size();
+        Integer[] algorithmIds = new Integer[size];
+        Integer[] problemIds = new Integer[size];
+        LocalDate[] solvedDates = new LocalDate[size];
+        ProblemTier[] tiers = new ProblemTier[size];
+        for (int i = 0; i < size; i++) {
+            ResolvedSolve solve = solves.get(i);
+            algorithmIds[i] = solve.algorithmId();
+            problemIds[i] = solve.problemId();
+            solvedDates[i] = solve.solvedDate();
+            tiers[i] = ProblemTier.fromLevel(solve.problemLevel());
+        }
+
+        List<SolvedLogBatchRecordedEvent.MonthSolvedCounts> monthCounts =
+                userMonthStatsService.recordSolvedBatch(userId, algorithmIds, problemIds, solvedDates, tiers);
+        userStreakService.recordSolvedBatch(userId, algorithmIds, solvedDates);
+
+        eventPublisher.publishEvent(new SolvedLogBatchRecordedEvent(
+                userId, Arrays.asList(solvedDates), Arrays.asList(problemIds), monthCounts));
+    }
+
+    // insert 된 풀이 1건 후속 반영 (같은 트랜잭션)
+    //  3) 월간 통계 롤업 반영
+    //  4) 연속 풀이 스트릭 반영 (과거 날짜는 주변 구간만 재계산)
+    //  5) 기록 이벤트 발행 (캐시 무효화 등은 커밋 후 처리)
+    private void applyInserted(ResolvedSolve solve) {
+        ProblemTier tier = ProblemTier.fromLevel(solve.problemLevel());
+        UserMonthStatsRepository.SolvedCountsProjection monthCounts =
+                userMonthStatsService.recordSolved(
+                        solve.userId(), solve.algorithmId(), solve.problemId(), solve.solvedDate(), tier);
+
+        userStreakService.recordSolved(solve.userId(), solve.algorithmId(), solve.solvedDate());
+
+        eventPublisher.publishEvent(new SolvedLogRecordedEvent(
+                solve.userId(), solve.algorithmId(), solve.problemId(), solve.solvedDate(), tier,
+                monthCounts.getTotalSolved(), monthCounts.getAxisSolved()
+        ));
+    }
+
+    // solved_log 일괄 기록 (확장 프로그램 설치 시 과거 풀이 가져오기)
+    // - 알고리즘은 카탈로그에서 이름 -> id 변환 (SQL 없음)
+    // - solved_log 는 unnest + ON CONFLICT DO NOTHING 으로 SQL 1회 insert (insert 된 problem_id 만 반환)
+    // - daily_goal 은 (알고리즘, 날짜)별 풀이 수로 묶어서 UPDATE 1회
+    // - 월간 롤업은 월별로 묶어서 upsert, 스트릭은 키별로 새 풀이일 주변만 재계산 (같은 트랜잭션, 전체 이력 재생성 없음)
+    // - 항목 오류는 전체 실패가 아니라 항목 결과로 반환
+    @Transactional
+    public SolvedLogBatchResponseDto recordSolvedBatch(Integer userId, SolvedLogBatchRequestDto request) {
+        if (request == null || request.getItems() == null) {
+            throw new IllegalArgumentException("요청 값 NULL 오류");
+        }
+        List<SolvedLogRequestDto> items = request.getItems();
+        if (items.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("일괄 기록은 최대 " + MAX_BATCH_SIZE + "건");
+        }
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("존재하지 않는 사용자");
+        }
+
+        int size = items.size();
+        String[] statuses = new String[size];
+        String[] messages = new String[size];
+
+        // 1) 필수 값 검증 + 요청 내 중복 problemId 제거 (첫 항목만 처리)
+        Set<Integer> seenProblemIds = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            SolvedLogRequestDto item = items.get(i);
+            String invalid = validateItem(item);
+            if (invalid != null) {
+                statuses[i] = SolvedLogBatchItemResultDto.INVALID;
+                messages[i] = invalid;
+            } else if (!seenProblemIds.add(item.getProblemId())) {
+                statuses[i] = SolvedLogBatchItemResultDto.DUPLICATE_IN_BATCH;
+            }
+        }
+
+        // 2) 알고리즘 id 변환 + insert 대상 배열 구성
+        int[] candidateIndexes = new int[size];
+        Integer[] resolvedAlgorithmIds = new Integer[size];
+        int candidateCount = 0;
+        for (int i = 0; i < size; i++) {
+            if (statuses[i] != null) {
+                continue;
+            }
+            Integer algorithmId = algorithmCatalog.idOf(items.get(i).getAlgorithmName());
+            if (algorithmId == null) {
+                statuses[i] = SolvedLogBatchItemResultDto.UNKNOWN_ALGORITHM;
+                messages[i] = "존재하지 않는 알고리즘";
+                continue;
+            }
+            resolvedAlgorithmIds[i] = algorithmId;
+            candidateIndexes[candidateCount++] = i;
+        }
+
+        Integer[] algorithmIds = new Integer[candidateCount];
+        Integer[] problemIds = new Integer[candidateCount];
+        String[] solvedDates = new String[candidateCount];
+        Integer[] problemLevels = new Integer[candidateCount];
+        for (int c = 0; c < candidateCount; c++) {
+            SolvedLogRequestDto item = items.get(candidateIndexes[c]);
+            algorithmIds[c] = resolvedAlgorithmIds[candidateIndexes[c]];
+            problemIds[c] = item.getProblemId();
+            solvedDates[c] = item.getSolvedDate().toString();
+            problemLevels[c] = normalizeProblemLevel(item.getProblemTier());
+        }
+
+        // 3) solved_log 일괄 insert
+        Set<Integer> insertedProblemIds = candidateCount > 0
+                ? solvedLogBatchRepository.insertIgnoringSolved(userId, algorithmIds, problemIds, solvedDates, problemLevels)
+                : Set.of();
+
+        // 4) daily_goal (알고리즘, 날짜)별 풀이 수 묶음 (알고리즘, 날짜 순 -> 단건 기록 / 주간 목표 저장과 같은 행 잠금 순서)
+        Map<GoalKey, Integer> goalIncrements = new TreeMap<>(
+                Comparator.comparing(GoalKey::algorithmId).thenComparing(GoalKey::goalDate));
+        List<LocalDate> insertedDates = new ArrayList<>(insertedProblemIds.size());
+        List<Integer> insertedAlgorithmIds = new ArrayList<>(insertedProblemIds.size());
+        List<Integer> insertedProblemIdList = new ArrayList<>(insertedProblemIds.size());
+        List<ProblemTier> insertedTiers = new ArrayList<>(insertedProblemIds.size());
+        for (int c = 0; c < candidateCount; c++) {
+            int index = candidateIndexes[c];
+            if (insertedProblemIds.contains(problemIds[c])) {
+                statuses[index] = SolvedLogBatchItemResultDto.INSERTED;
+                LocalDate solvedDate = items.get(index).getSolvedDate();
+                insertedDates.add(solvedDate);
+                insertedAlgorithmIds.add(algorithmIds[c]);
+                insertedProblemIdList.add(problemIds[c]);
+                insertedTiers.add(ProblemTier.fromLevel(problemLevels[c]));
+                goalIncrements.merge(new GoalKey(algorithmIds[c], solvedDate), 1, Integer::sum);
+            } else {
+                statuses[index] = SolvedLogBatchItemResultDto.ALREADY_SOLVED;
+            }
+        }
 
-        solvedLogRepository.save(solvedLog);
+        if (!insertedDates.isEmpty()) {
+            Integer[] goalAlgorithmIds = new Integer[goalIncrements.size()];
+            String[] goalDates = new String[goalIncrements.size()];
+            Integer[] goalCounts = new Integer[goalIncrements.size()];
+            int g = 0;
+            for (Map.Entry<GoalKey, Integer> entry : goalIncrements.entrySet()) {
+                goalAlgorithmIds[g] = entry.getKey().algorithmId();
+                goalDates[g] = entry.getKey().goalDate().toString();
+                goalCounts[g] = entry.getValue();
+                g++;
+            }
+            solvedLogBatchRepository.increaseDailyGoals(userId, goalAlgorithmIds, goalDates, goalCounts);
 
-        // 5) daily_goal 처리 (해당 날짜/알고리즘 목표가 있을 경우 solve_count +1)
-        dailyGoalRepository
-                .findByWeeklyGoalUserUserIdAndAlgorithmAlgorithmIdAndGoalDate(userId, algorithmId, solvedDate)
-                .ifPresent(dailyGoal -> {
-                    int current = dailyGoal.getSolveCount() != null ? dailyGoal.getSolveCount() : 0;
-                    dailyGoal.setSolveCount(current + 1);
-                });
+            // 5) 월간 롤업 / 스트릭 증분 반영 (같은 트랜잭션, insert 된 풀이만)
+            Integer[] batchAlgorithmIds = insertedAlgorithmIds.toArray(Integer[]::new);
+            LocalDate[] batchDates = insertedDates.toArray(LocalDate[]::new);
+            List<SolvedLogBatchRecordedEvent.MonthSolvedCounts> monthCounts = userMonthStatsService.recordSolvedBatch(
+                    userId, batchAlgorithmIds, insertedProblemIdList.toArray(Integer[]::new), batchDates,
+                    insertedTiers.toArray(ProblemTier[]::new));
+            userStreakService.recordSolvedBatch(userId, batchAlgorithmIds, batchDates);
+
+            // 6) 일괄 기록 이벤트 발행 (캐시 무효화 / 순위 분포 반영 등은 커밋 후 처리)
+            eventPublisher.publishEvent(new SolvedLogBatchRecordedEvent(userId, insertedDates, insertedProblemIdList, monthCounts));
+        }
+
+        // 7) 항목별 결과
+        List<SolvedLogBatchItemResultDto> results = new ArrayList<>(size);
+        int skipped = 0;
+        int failed = 0;
+        for (int i = 0; i < size; i++) {
+            String status = statuses[i];
+            if (SolvedLogBatchItemResultDto.ALREADY_SOLVED.equals(status)
+                    || SolvedLogBatchItemResultDto.DUPLICATE_IN_BATCH.equals(status)) {
+                skipped++;
+            } else if (!SolvedLogBatchItemResultDto.INSERTED.equals(status)) {
+                failed++;
+            }
+            SolvedLogRequestDto item = items.get(i);
+            results.add(SolvedLogBatchItemResultDto.builder()
+                    .index(i)
+                    .problemId(item != null ? item.getProblemId() : null)
+                    .status(status)
+                    .message(messages[i])
+                    .build());
+        }
+
+        return SolvedLogBatchResponseDto.builder()
+                .requested(size)
+                .inserted(insertedDates.size())
+                .skipped(skipped)
+                .failed(failed)
+                .results(results)
+                .build();
+    }
+
+    // 일괄 기록 항목 필수 값 검증 (오류 메시지, 정상이면 null)
+    private String validateItem(SolvedLogRequestDto item) {
+        if (item == null) {
+            return "항목 NULL 오류";
+        }
+        if (item.getAlgorithmName() == null || item.getAlgorithmName().isBlank()) {
+            return "algorithmName 값 NULL 오류";
+        }
+        if (item.getProblemId() == null) {
+            return "problemId 값 NULL 오류";
+        }
+        if (item.getSolvedDate() == null) {
+            return "solvedDate 값 NULL 오류";
+        }
+        return null;
     }
 
-    // problemTier : 정수 -> 문자열 변환
-    private String convertProblemTierToLabel(Integer problemTier) {
+    // problemTier(solved.ac 난이도) : 0~30 범위로 보정 (null = 정보 없음)
+    private Integer normalizeProblemLevel(Integer problemTier) {
         if (problemTier == null) {
-            return "X";
-        }
-
-        int score = problemTier;
-
-        if (score <= 0) {
-            return "Unrated";
-        } else if (score <= 5) {
-            return "Bronze";
-        } else if (score <= 10) {
-            return "Silver";
-        } else if (score <= 15) {
-            return "Gold";
-        } else if (score <= 20) {
-            return "Platinum";
-        } else if (score <= 25) {
-            return "Diamond";
-        } else {
-            return "Ruby";
+            return null;
         }
+        return Math.max(0, Math.min(problemTier, 30));
+    }
+
+    // daily_goal 증가 묶음 키
+    private record GoalKey(Integer algorithmId, LocalDate goalDate) {
+    }
+
+    // daily_goal 증가 묶음 키 (여러 사용자 혼합)
+    private record UserGoalKey(Integer userId, Integer algorithmId, LocalDate goalDate) {
     }
 
 }
@@ -0,0 +1,109 @@
+package com.errorterry.algotrack_backend_spring.service;
+
+import java.util.Arrays;
+
+// 사용자 1명이 푼 problem_id 집합 (압축 비트맵)
+// - problem_id 를 4096 단위 구간(chunk)으로 나누고 구간마다 작은 쪽 표현을 사용
+//   - 256개 이하 : 정렬된 char[] (하위 12비트, 1개당 2바이트)
+//   - 256개 초과 : long[64] 비트맵 (구간당 512바이트 고정)
+// - 음수 problem_id 는 담지 않음 (contains 는 항상 false)
+// - 요청 스레드 조회와 커밋 후 추가가 겹칠 수 있어 메서드 단위로 동기화
+final class SolvedProblemBitmap {
+
+    private static final int CHUNK_BITS = 12;
+    private static final int CHUNK_MASK = (1 << CHUNK_BITS) - 1;
+    private static final int BITMAP_WORDS = (1 << CHUNK_BITS) / Long.SIZE;
+    private static final int ARRAY_MAX = 256;
+
+    // 메모리 추정용 (64비트 JVM, compressed oops 기준)
+    private static final int OBJECT_HEADER_BYTES = 16;
+    private static final int REFERENCE_BYTES = 4;
+
+    // index = problem_id >>> 12, 값 = char[] | long[] | null
+    private Object[] chunks = new Object[0];
+    private int cardinality;
+
+    synchronized boolean contains(int problemId) {
+        if (problemId < 0) {
+            return false;
+        }
+        int high = problemId >>> CHUNK_BITS;
+        if (high >= chunks.length) {
+            return false;
+        }
+
+        Object chunk = chunks[high];
+        int low = problemId & CHUNK_MASK;
+        if (chunk instanceof long[] words) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+        return chunk instanceof char[] values && Arrays.binarySearch(values, (char) low) >= 0;
+    }
+
+    // 새로 추가되면 true
+    synchronized boolean add(int problemId) {
+        if (problemId < 0) {
+            return false;
+        }
+        int high = problemId >>> CHUNK_BITS;
+        if (high >= chunks.length) {
+            chunks = Arrays.copyOf(chunks, high + 1);
+        }
+
+        int low = problemId & CHUNK_MASK;
+        Object chunk = chunks[high];
+
+        if (chunk instanceof long[] words) {
+            long mask = 1L << low;
+            if ((words[low >>> 6] & mask) != 0) {
+                return false;
+            }
+            words[low >>> 6] |= mask;
+            cardinality++;
+            return true;
+        }
+
+        char[] values = chunk instanceof char[] existing ? existing : new char[0];
+        int index = Arrays.binarySearch(values, (char) low);
+        if (index >= 0) {
+            return false;
+        }
+
+        if (values.length == ARRAY_MAX) {
+            // 배열보다 비트맵이 작아지는 시점 -> 비트맵으로 전환
+            long[] words = new long[BITMAP_WORDS];
+            for (char value : values) {
+                words[value >>> 6] |= 1L << value;
+            }
+            words[low >>> 6] |= 1L << low;
+            chunks[high] = words;
+        } else {
+            int insertAt = -index - 1;
+            char[] grown = new char[values.length + 1];
+            System.arraycopy(values, 0, grown, 0, insertAt);
+            grown[insertAt] = (char) low;
+            System.arraycopy(values, insertAt, grown, insertAt + 1, values.length - insertAt);
+            chunks[high] = grown;
+        }
+        cardinality++;
+        return true;
+    }
+
+    synchronized int cardinality() {
+        return cardinality;
+    }
+
+    // 대략적인 힙 사용량 (객체 헤더 + 구간 배열 + 구간별 표현)
+    synchronized long estimatedBytes() {
+        long bytes = OBJECT_HEADER_BYTES + REFERENCE_BYTES + Integer.BYTES;
+        bytes += OBJECT_HEADER_BYTES + (long) REFERENCE_BYTES * chunks.length;
+        for (Object chunk : chunks) {
+            if (chunk instanceof long[] words) {
+                bytes += OBJECT_HEADER_BYTES + (long) Long.BYTES * words.length;
+            } else if (chunk instanceof char[] values) {
+                bytes += OBJECT_HEADER_BYTES + (long) Character.BYTES * values.length;
+            }
+        }
+        return bytes;
+    }
+}
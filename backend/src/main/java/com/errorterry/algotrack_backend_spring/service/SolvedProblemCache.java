@@ -0,0 +1,110 @@
+package com.errorterry.algotrack_backend_spring.service;
+
+import com.errorterry.algotrack_backend_spring.event.SolvedLogBatchRecordedEvent;
+import com.errorterry.algotrack_backend_spring.event.SolvedLogRecordedEvent;
+import com.errorterry.algotrack_backend_spring.repository.SolvedLogCursorRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// 사용자별 푼 문제 비트맵 캐시 (중복 제출 판별용)
+// - 첫 조회 때 solved_log 의 problem_id 를 읽어 비트맵 적재 (이후 같은 사용자는 DB 조회 없음)
+// - solved_log 기록 커밋 후 캐시에 있는 사용자만 비트맵에 추가
+// - 일괄 기록(HTTP 일괄 / 수집 대기열 묶음)도 이벤트의 problem_id 를 같은 방식으로 추가
+// - 적재와 기록 커밋이 겹쳐 빠진 문제는 "모름"으로 남을 뿐이라 DB 경로(ON CONFLICT)에서 걸러짐
+//   (solved_log 는 삭제하지 않으므로 "푼 문제"로 잘못 판단하는 경우는 없음)
+@Component
+public class SolvedProblemCache {
+
+    private final SolvedLogCursorRepository solvedLogCursorRepository;
+    private final Cache<Integer, SolvedProblemBitmap> cache;
+    private final LongAdder knownDuplicates = new LongAdder();
+
+    public SolvedProblemCache(
+            SolvedLogCursorRepository solvedLogCursorRepository,
+            @Value("${solve-log.solved-cache.maximum-size:50000}") long maximumSize,
+            @Value("${solve-log.solved-cache.expire-after-access:1h}") Duration expireAfterAccess
+    ) {
+        this.solvedLogCursorRepository = solvedLogCursorRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build();
+    }
+
+    // 이미 푼 문제로 확인되면 true (false 는 "모름" -> DB 경로로 처리)
+    public boolean isKnownSolved(Integer userId, Integer problemId) {
+        if (userId == null || problemId == null) {
+            return false;
+        }
+        boolean solved = cache.get(userId, this::load).contains(problemId);
+        if (solved) {
+            knownDuplicates.increment();
+        }
+        return solved;
+    }
+
+    // 문제 풀이 기록 -> 캐시에 있는 사용자 비트맵에 추가
+    @TransactionalEventListener
+    public void onSolvedLogRecorded(SolvedLogRecordedEvent event) {
+        SolvedProblemBitmap bitmap = cache.getIfPresent(event.getUserId());
+        if (bitmap != null) {
+            bitmap.add(event.getProblemId());
+        }
+    }
+
+    // 일괄 기록 -> 캐시에 있는 사용자 비트맵에 기록된 문제 추가
+    @TransactionalEventListener
+    public void onSolvedLogBatchRecorded(SolvedLogBatchRecordedEvent event) {
+        SolvedProblemBitmap bitmap = cache.getIfPresent(event.getUserId());
+        if (bitmap != null) {
+            event.getProblemIds().forEach(bitmap::add);
+        }
+    }
+
+    // 캐시 통계 (hit / miss / eviction, 사용자당 메모리)
+    public Map<String, Object> stats() {
+        CacheStats stats = cache.stats();
+
+        long users = 0;
+        long problems = 0;
+        long totalBytes = 0;
+        long maxBytes = 0;
+        for (SolvedProblemBitmap bitmap : cache.asMap().values()) {
+            long bytes = bitmap.estimatedBytes();
+            users++;
+            problems += bitmap.cardinality();
+            totalBytes += bytes;
+            maxBytes = Math.max(maxBytes, bytes);
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", users);
+        result.put("hit_count", stats.hitCount());
+        result.put("miss_count", stats.missCount());
+        result.put("hit_rate", stats.hitRate());
+        result.put("eviction_count", stats.evictionCount());
+        result.put("known_duplicates", knownDuplicates.sum());
+        result.put("cached_problems", problems);
+        result.put("total_bytes", totalBytes);
+        result.put("avg_bytes_per_user", users > 0 ? totalBytes / users : 0);
+        result.put("max_bytes_per_user", maxBytes);
+        return result;
+    }
+
+    private SolvedProblemBitmap load(Integer userId) {
+        SolvedProblemBitmap bitmap = new SolvedProblemBitmap();
+        solvedLogCursorRepository.streamProblemIdsByUserId(userId, bitmap::add);
+        return bitmap;
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.errorterry.algotrack_backend_spring.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 월간 통계 구간 조회가 마감 시각을 넘김 -> 503 (잠시 후 재시도)
+// - 조회 자체의 오류가 아니라 커넥션 / 스레드 부족으로 늦어진 경우
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class StatisticsDeadlineExceededException extends IllegalStateException {
+
+    public StatisticsDeadlineExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,179 @@
+package com.errorterry.algotrack_backend_spring.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// 월간 통계 구간(section) 병렬 조회 실행기
+// - parallel : 서로 독립인 조회를 전용 스레드 풀에서 각자 읽기 전용 트랜잭션(커넥션)으로 실행
+// - serial   : 호출 스레드에서 짧은 읽기 전용 트랜잭션으로 바로 실행
+// - 호출 스레드는 트랜잭션 없이 구간을 시작 / 대기 (대기 중 커넥션을 잡고 있으면 구간 조회가 커넥션을 못 얻어 마감 초과)
+// - 동시에 빌려 쓰는 커넥션 수는 permits 로 제한, 남는 permit 이 없으면 호출 스레드에서 실행
+// - 마감 초과는 StatisticsDeadlineExceededException (503)
+// - serial / parallel 응답 시간을 각각 누적해서 비교용으로 제공
+@Component
+public class StatisticsSectionExecutor {
+
+    private static final String MODE_PARALLEL = "parallel";
+
+    private final boolean parallel;
+    private final Duration deadline;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final ExecutorService executor;
+
+    private final LatencyStats serialLatency = new LatencyStats();
+    private final LatencyStats parallelLatency = new LatencyStats();
+    private final AtomicLong inlineFallbacks = new AtomicLong();
+    private final AtomicLong deadlineExceeded = new AtomicLong();
+
+    public StatisticsSectionExecutor(
+            PlatformTransactionManager transactionManager,
+            @Value("${statistics.monthly-summary.execution:serial}") String mode,
+            @Value("${statistics.monthly-summary.parallel-connections:4}") int parallelConnections,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+            @Value("${statistics.monthly-summary.deadline:3s}") Duration deadline
+    ) {
+        this.parallel = MODE_PARALLEL.equals(mode);
+        this.deadline = deadline;
+
+        // 요청 스레드도 커넥션을 1개 쓰므로 풀의 절반까지만 구간 조회에 사용
+        this.maxPermits = Math.max(1, Math.min(parallelConnections, poolSize / 2));
+        this.permits = new Semaphore(maxPermits);
+
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        this.readOnlyTransaction = template;
+
+        if (parallel) {
+            AtomicInteger threadIndex = new AtomicInteger();
+            this.executor = Executors.newFixedThreadPool(maxPermits, runnable -> {
+                Thread thread = new Thread(runnable, "statistics-section-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            this.executor = null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    // 요청 시작 시각 기준 마감 시각 (System.nanoTime)
+    public long deadlineFrom(long startedAt) {
+        return startedAt + deadline.toNanos();
+    }
+
+    // 호출 스레드에서 짧은 읽기 전용 트랜잭션으로 실행 (끝나면 커넥션 반환)
+    public <T> T inTransaction(Supplier<T> work) {
+        return readOnlyTransaction.execute(status -> work.get());
+    }
+
+    // 구간 조회 시작
+    // - parallel 이고 permit 이 있으면 풀에서 별도 읽기 전용 트랜잭션으로 실행
+    // - 그 외에는 호출 스레드에서 읽기 전용 트랜잭션으로 바로 실행 (완료된 Future 반환)
+    public <T> Future<T> submit(Supplier<T> section) {
+        if (!parallel || !permits.tryAcquire()) {
+            if (parallel) {
+                inlineFallbacks.incrementAndGet();
+            }
+            return CompletableFuture.completedFuture(inTransaction(section));
+        }
+
+        try {
+            return executor.submit(() -> {
+                try {
+                    return inTransaction(section);
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    // 구간 결과 대기 (마감 시각을 넘기면 취소 후 503 예외)
+    public <T> T join(Future<T> future, long deadlineNanos) {
+        try {
+            return future.get(Math.max(deadlineNanos - System.nanoTime(), 0L), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            deadlineExceeded.incrementAndGet();
+            throw new StatisticsDeadlineExceededException("월간 통계 조회 시간 초과 (" + deadline + ")");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("월간 통계 조회 중단");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // 요청 1건 응답 시간 기록
+    public void recordLatency(long startedAt) {
+        (parallel ? parallelLatency : serialLatency).record(System.nanoTime() - startedAt);
+    }
+
+    // 실행 모드 / 모드별 응답 시간 / 대체 실행 횟수 (모니터링용)
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("mode", parallel ? MODE_PARALLEL : "serial");
+        result.put("permits", maxPermits);
+        result.put("availablePermits", permits.availablePermits());
+        result.put("deadlineMs", deadline.toMillis());
+        result.put("serial", serialLatency.snapshot());
+        result.put("parallel", parallelLatency.snapshot());
+        result.put("inlineFallbacks", inlineFallbacks.get());
+        result.put("deadlineExceeded", deadlineExceeded.get());
+        return result;
+    }
+
+    // 누적 응답 시간 (건수 / 평균 / 최대)
+    private static final class LatencyStats {
+
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        private void record(long nanos) {
+            count.incrementAndGet();
+            totalNanos.addAndGet(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        private Map<String, Object> snapshot() {
+            long n = count.get();
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("count", n);
+            result.put("avgMs", n > 0 ? totalNanos.get() / n / 1_000_000.0 : 0.0);
+            result.put("maxMs", maxNanos.get() / 1_000_000.0);
+            return result;
+        }
+    }
+
+}
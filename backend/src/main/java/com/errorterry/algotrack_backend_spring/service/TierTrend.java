@@ -0,0 +1,80 @@
+package com.errorterry.algotrack_backend_spring.service;
+
+import java.util.Arrays;
+
+// 난이도(티어 점수) 추세 계산
+// - 일자별 풀이 수 / 티어 점수 합 배열(index 0 = 1일)만 사용, 풀이 1건마다 객체를 만들지 않음
+final class TierTrend {
+
+    static final String UP = "UP";
+    static final String DOWN = "DOWN";
+    static final String SAME = "SAME";
+    static final String NONE = "NONE";
+
+    private static final double EPS = 0.1;   // 난이도 변화 판단 허용 오차
+
+    private TierTrend() {
+    }
+
+    // 주 단위 추세 결과 (추세, 같은 추세가 이어진 주 수)
+    record Weekly(String trend, int streakWeeks) {
+    }
+
+    // 평균 티어 점수 (풀이 없으면 null)
+    static Double average(long scoreSum, long count) {
+        return count == 0 ? null : (double) scoreSum / count;
+    }
+
+    // 주 단위 평균 티어 (1~7일 = 0주차, ...), 풀이가 있는 주만 순서대로
+    static double[] weeklyAverages(int[] dayCounts, int[] dayScoreSums, int lengthOfMonth) {
+        int weekSlots = (lengthOfMonth + 6) / 7;
+        double[] averages = new double[weekSlots];
+        int size = 0;
+
+        for (int w = 0; w < weekSlots; w++) {
+            int count = 0;
+            int scoreSum = 0;
+            for (int dayIndex = w * 7; dayIndex < Math.min(w * 7 + 7, lengthOfMonth); dayIndex++) {
+                count += dayCounts[dayIndex];
+                scoreSum += dayScoreSums[dayIndex];
+            }
+            if (count > 0) {
+                averages[size++] = (double) scoreSum / count;
+            }
+        }
+
+        return (size == weekSlots) ? averages : Arrays.copyOf(averages, size);
+    }
+
+    // 마지막 두 주의 변화 + 같은 변화가 몇 주 연속인지 (비교할 주가 2개 미만이면 NONE / 0)
+    static Weekly weekly(double[] weeklyAverages) {
+        int size = weeklyAverages.length;
+        if (size < 2) {
+            return new Weekly(NONE, 0);
+        }
+
+        String lastTrend = compare(weeklyAverages[size - 2], weeklyAverages[size - 1]);
+
+        int streak = 1;
+        for (int i = size - 2; i >= 1; i--) {
+            if (compare(weeklyAverages[i - 1], weeklyAverages[i]).equals(lastTrend)) {
+                streak++;
+            } else {
+                break;
+            }
+        }
+        return new Weekly(lastTrend, streak);
+    }
+
+    // 평균 티어 변화 판단 ("UP", "DOWN", "SAME")
+    static String compare(double prev, double curr) {
+        double diff = curr - prev;
+        if (diff > EPS) {
+            return UP;
+        } else if (diff < -EPS) {
+            return DOWN;
+        }
+        return SAME;
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.errorterry.algotrack_backend_spring.service;
+
+import com.errorterry.algotrack_backend_spring.event.SolvedLogBatchRecordedEvent;
+import com.errorterry.algotrack_backend_spring.event.SolvedLogRecordedEvent;
+import com.errorterry.algotrack_backend_spring.event.WeeklyGoalChangedEvent;
+import com.errorterry.algotrack_backend_spring.repository.UserDataVersionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// 사용자별 데이터 버전 (조건부 GET ETag 용)
+// - users.data_version 에 저장, 쓰기와 같은 트랜잭션에서 +1 (커밋되면 버전도 함께 보임)
+//   · solved_log 기록(단건 / 일괄) / 주간 목표 변경 : 이벤트 발행 시점(커밋 전)에 동기 리스너로 증가
+//   · 가져오기 CLI / 롤업 / 스트릭 재생성 : 직접 bump / bumpAll 호출
+// - 다른 프로세스(가져오기 CLI)의 쓰기도 버전에 반영되므로 ETag / 월간 통계 / 히트맵 캐시가 오래된 값을 내보내지 않음
+// - ETag 에는 기동 시각(epoch)도 넣음 (함께 들어가는 순위 분포 버전이 재기동 시 0부터 다시 시작)
+@Component
+@RequiredArgsConstructor
+public class UserDataVersionService {
+
+    private final String bootEpoch = Long.toString(System.currentTimeMillis(), 36);
+    private final UserDataVersionRepository userDataVersionRepository;
+    private final LongAdder bumpCount = new LongAdder();
+
+    // 현재 버전 (커밋된 값, 응답 계산 전에 읽어야 함 -> 응답 데이터는 항상 그 버전 이후 상태)
+    public long version(Integer userId) {
+        return userDataVersionRepository.findVersion(userId);
+    }
+
+    // 약한 ETag (W/"epoch-scope-version[-extra]")
+    public String etag(long version, String scope, long... extra) {
+        StringBuilder sb = new StringBuilder("W/\"")
+                .append(bootEpoch).append('-')
+                .append(scope).append('-')
+                .append(Long.toString(version, 36));
+        for (long value : extra) {
+            sb.append('-').append(Long.toString(value, 36));
+        }
+        return sb.append('"').toString();
+    }
+
+    // 버전 +1 (호출한 쪽 트랜잭션에 참여)
+    @Transactional
+    public void bump(Integer userId) {
+        userDataVersionRepository.increase(userId);
+        bumpCount.increment();
+    }
+
+    // 여러 사용자 버전 +1 (호출한 쪽 트랜잭션에 참여)
+    @Transactional
+    public void bumpAll(Integer[] userIds) {
+        if (userIds.length == 0) {
+            return;
+        }
+        userDataVersionRepository.increaseAll(userIds);
+        bumpCount.add(userIds.length);
+    }
+
+    @EventListener
+    public void onSolvedLogRecorded(SolvedLogRecordedEvent event) {
+        bump(event.getUserId());
+    }
+
+    @EventListener
+    public void onSolvedLogBatchRecorded(SolvedLogBatchRecordedEvent event) {
+        bump(event.getUserId());
+    }
+
+    @EventListener
+    public void onWeeklyGoalChanged(WeeklyGoalChangedEvent event) {
+        bump(event.getUserId());
+    }
+
+    // 이 프로세스의 누적 증가 횟수 (모니터링용)
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("boot_epoch", bootEpoch);
+        result.put("bump_count", bumpCount.sum());
+        return result;
+    }
+
+}
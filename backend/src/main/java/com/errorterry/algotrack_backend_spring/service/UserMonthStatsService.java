@@ -0,0 +1,222 @@
+package com.errorterry.algotrack_backend_spring.service;
+
+import com.errorterry.algotrack_backend_spring.domain.ProblemTier;
+import com.errorterry.algotrack_backend_spring.domain.UserMonthAlgorithmStats;
+import com.errorterry.algotrack_backend_spring.domain.UserMonthStats;
+import com.errorterry.algotrack_backend_spring.event.SolvedLogBatchRecordedEvent;
+import com.errorterry.algotrack_backend_spring.repository.SolvedLogStatisticsRepository;
+import com.errorterry.algotrack_backend_spring.repository.UserMonthAlgorithmStatsRepository;
+import com.errorterry.algotrack_backend_spring.repository.UserMonthStatsBatchRepository;
+import com.errorterry.algotrack_backend_spring.repository.UserMonthStatsRepository;
+import com.errorterry.algotrack_backend_spring.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+@Service
+public class UserMonthStatsService {
+
+    // 전체 재생성 시 트랜잭션 1개에서 처리할 사용자 수
+    private static final int REBUILD_PAGE_SIZE = 100;
+
+    private final UserMonthStatsRepository userMonthStatsRepository;
+    private final UserMonthAlgorithmStatsRepository userMonthAlgorithmStatsRepository;
+    private final UserMonthStatsBatchRepository userMonthStatsBatchRepository;
+    private final SolvedLogStatisticsRepository solvedLogStatisticsRepository;
+    private final UserRepository userRepository;
+    private final AlgorithmCatalog algorithmCatalog;
+    private final ProblemCatalog problemCatalog;
+    private final UserDataVersionService userDataVersionService;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    public UserMonthStatsService(
+            UserMonthStatsRepository userMonthStatsRepository,
+            UserMonthAlgorithmStatsRepository userMonthAlgorithmStatsRepository,
+            UserMonthStatsBatchRepository userMonthStatsBatchRepository,
+            SolvedLogStatisticsRepository solvedLogStatisticsRepository,
+            UserRepository userRepository,
+            AlgorithmCatalog algorithmCatalog,
+            ProblemCatalog problemCatalog,
+            UserDataVersionService userDataVersionService,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.userMonthStatsRepository = userMonthStatsRepository;
+        this.userMonthAlgorithmStatsRepository = userMonthAlgorithmStatsRepository;
+        this.userMonthStatsBatchRepository = userMonthStatsBatchRepository;
+        this.solvedLogStatisticsRepository = solvedLogStatisticsRepository;
+        this.userRepository = userRepository;
+        this.algorithmCatalog = algorithmCatalog;
+        this.problemCatalog = problemCatalog;
+        this.userDataVersionService = userDataVersionService;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 풀이 1건을 월간 롤업에 반영
+    // - 호출한 쪽(solved_log insert)의 트랜잭션에 참여
+    // - 반영 후 해당 월 총 풀이 수 / 해당 알고리즘 축 풀이 수 반환 (순위 분포 갱신용)
+    // - 태그 기준 축별 풀이 수는 문제 카탈로그에서 문제 태그를 찾아 같은 UPDATE 에서 반영
+    @Transactional
+    public UserMonthStatsRepository.SolvedCountsProjection recordSolved(
+            Integer userId,
+            Integer algorithmId,
+            Integer problemId,
+            LocalDate solvedDate,
+            ProblemTier tier
+    ) {
+        LocalDate statMonth = solvedDate.withDayOfMonth(1);
+        int day = solvedDate.getDayOfMonth();
+
+        userMonthStatsRepository.insertEmptyIfAbsent(userId, statMonth);
+        UserMonthStatsRepository.SolvedCountsProjection counts = userMonthStatsRepository.increaseSolved(
+                userId,
+                statMonth,
+                day,
+                1 << (day - 1),
+                tier.ordinal() + 1,
+                tier.getScore(),
+                algorithmCatalog.axisOrdinal(algorithmId) + 1,
+                problemCatalog.newTagCounter().axisMask(problemId, algorithmId)
+        );
+
+        userMonthAlgorithmStatsRepository.increaseSolved(userId, statMonth, algorithmId);
+
+        return counts;
+    }
+
+    // 일괄 기록된 풀이 (같은 사용자) 를 월간 롤업에 증분 반영
+    // - 호출한 쪽(solved_log insert)의 트랜잭션에 참여
+    // - 월별로 묶어서 월마다 upsert 1회 (월 오름차순) + (월, 알고리즘)별 upsert 1회
+    // - 재생성과 달리 기존 행을 지우지 않으므로 동시 단건 기록과 행 잠금으로 직렬화됨
+    // - 반환 : 월별 반영 전 / 후 {총 풀이 수, 축별 풀이 수...} (월 오름차순, 순위 분포 증분 반영용)
+    @Transactional
+    public List<SolvedLogBatchRecordedEvent.MonthSolvedCounts> recordSolvedBatch(
+            Integer userId,
+            Integer[] algorithmIds,
+            Integer[] problemIds,
+            LocalDate[] solvedDates,
+            ProblemTier[] tiers
+    ) {
+        ProblemTagCounter tagCounter = problemCatalog.newTagCounter();
+        Map<YearMonth, MonthlySolveAggregate> byMonth = new TreeMap<>();
+        for (int i = 0; i < solvedDates.length; i++) {
+            byMonth.computeIfAbsent(YearMonth.from(solvedDates[i]), MonthlySolveAggregate::new)
+                    .add(solvedDates[i].getDayOfMonth(), algorithmIds[i], tiers[i],
+                            tagCounter.axisMask(problemIds[i], algorithmIds[i]));
+        }
+
+        List<SolvedLogBatchRecordedEvent.MonthSolvedCounts> monthCounts = new ArrayList<>(byMonth.size());
+        List<String> statMonths = new ArrayList<>();
+        List<Integer> monthAlgorithmIds = new ArrayList<>();
+        List<Integer> monthAlgorithmCounts = new ArrayList<>();
+        for (Map.Entry<YearMonth, MonthlySolveAggregate> entry : byMonth.entrySet()) {
+            MonthlySolveAggregate aggregate = entry.getValue();
+            UserMonthStats delta = aggregate.toRollup(userId);
+            delta.setAxisCounts(toIntArray(algorithmCatalog.foldByAxis(aggregate.algorithmCounts())));
+            int[] after = userMonthStatsBatchRepository.addMonth(delta);
+            monthCounts.add(new SolvedLogBatchRecordedEvent.MonthSolvedCounts(entry.getKey(), before(after, delta), after));
+
+            for (UserMonthAlgorithmStats row : aggregate.toAlgorithmRollups(userId)) {
+                statMonths.add(row.getStatMonth().toString());
+                monthAlgorithmIds.add(row.getAlgorithmId());
+                monthAlgorithmCounts.add(row.getSolvedCount());
+            }
+        }
+
+        userMonthStatsBatchRepository.addAlgorithmCounts(
+                userId,
+                statMonths.toArray(String[]::new),
+                monthAlgorithmIds.toArray(Integer[]::new),
+                monthAlgorithmCounts.toArray(Integer[]::new)
+        );
+        return monthCounts;
+    }
+
+    // 반영 후 값 - 증분 = 반영 전 값 (반영 전 해당 월 풀이가 없었으면 null)
+    private static int[] before(int[] after, UserMonthStats delta) {
+        if (after[0] == delta.getTotalSolved()) {
+            return null;
+        }
+        int[] before = after.clone();
+        before[0] -= delta.getTotalSolved();
+        int[] axisCounts = delta.getAxisCounts();
+        for (int i = 0; i < axisCounts.length; i++) {
+            before[i + 1] -= axisCounts[i];
+        }
+        return before;
+    }
+
+    // 특정 사용자의 월간 롤업을 solved_log 기준으로 재생성 (백필용)
+    @Transactional
+    public int rebuildUser(Integer userId) {
+        userMonthAlgorithmStatsRepository.deleteAllByUserId(userId);
+        userMonthStatsRepository.deleteAllByUserId(userId);
+
+        // 월별 집계 (태그 기준 축은 현재 문제 카탈로그 기준)
+        ProblemTagCounter tagCounter = problemCatalog.newTagCounter();
+        Map<YearMonth, MonthlySolveAggregate> byMonth = new TreeMap<>();
+        try (Stream<SolvedLogStatisticsRepository.SolvedLogRowProjection> rows =
+                     solvedLogStatisticsRepository.streamRowsByUserId(userId)) {
+            rows.forEach(row -> {
+                LocalDate solvedDate = row.getSolvedDate();
+                byMonth.computeIfAbsent(YearMonth.from(solvedDate), MonthlySolveAggregate::new)
+                        .add(solvedDate.getDayOfMonth(), row.getAlgorithmId(), ProblemTier.fromLevel(row.getProblemLevel()),
+                                tagCounter.axisMask(row.getProblemId(), row.getAlgorithmId()));
+            });
+        }
+
+        for (MonthlySolveAggregate aggregate : byMonth.values()) {
+            UserMonthStats rollup = aggregate.toRollup(userId);
+            rollup.setAxisCounts(toIntArray(algorithmCatalog.foldByAxis(aggregate.algorithmCounts())));
+            userMonthStatsRepository.save(rollup);
+            userMonthAlgorithmStatsRepository.saveAll(aggregate.toAlgorithmRollups(userId));
+        }
+
+        // 요청 이벤트 없이 바뀌는 경로 -> ETag / 월간 통계 캐시 갱신
+        userDataVersionService.bump(userId);
+
+        return byMonth.size();
+    }
+
+    // 전체 사용자 월간 롤업 재생성 (백필용)
+    // - REBUILD_PAGE_SIZE 명 단위로 커밋, 사용자마다 영속성 컨텍스트 비움 (트랜잭션 / 1차 캐시가 전체 사용자만큼 커지지 않도록)
+    // - 중간에 실패하면 앞서 커밋된 사용자는 유지 (사용자 단위 재생성은 멱등)
+    public int rebuildAll() {
+        List<Integer> userIds = userRepository.findAllUserIds();
+        int months = 0;
+        for (int from = 0; from < userIds.size(); from += REBUILD_PAGE_SIZE) {
+            List<Integer> page = userIds.subList(from, Math.min(from + REBUILD_PAGE_SIZE, userIds.size()));
+            months += transactionTemplate.execute(status -> {
+                int rebuilt = 0;
+                for (Integer userId : page) {
+                    rebuilt += rebuildUser(userId);
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+                return rebuilt;
+            });
+        }
+        return months;
+    }
+
+    private static int[] toIntArray(long[] values) {
+        int[] result = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = (int) values[i];
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,305 @@
+package com.errorterry.algotrack_backend_spring.service;
+
+import com.errorterry.algotrack_backend_spring.domain.UserStreak;
+import com.errorterry.algotrack_backend_spring.dto.StatisticsStreakDto;
+import com.errorterry.algotrack_backend_spring.dto.StatisticsStreakResponseDto;
+import com.errorterry.algotrack_backend_spring.repository.SolvedLogStatisticsRepository;
+import com.errorterry.algotrack_backend_spring.repository.UserRepository;
+import com.errorterry.algotrack_backend_spring.repository.UserStreakRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Stream;
+
+@Service
+public class UserStreakService {
+
+    // 전체 재생성 시 트랜잭션 1개에서 처리할 사용자 수
+    private static final int REBUILD_PAGE_SIZE = 100;
+
+    private final UserStreakRepository userStreakRepository;
+    private final SolvedLogStatisticsRepository solvedLogStatisticsRepository;
+    private final AlgorithmCatalog algorithmCatalog;
+    private final UserRepository userRepository;
+    private final UserDataVersionService userDataVersionService;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    public UserStreakService(
+            UserStreakRepository userStreakRepository,
+            SolvedLogStatisticsRepository solvedLogStatisticsRepository,
+            AlgorithmCatalog algorithmCatalog,
+            UserRepository userRepository,
+            UserDataVersionService userDataVersionService,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.userStreakRepository = userStreakRepository;
+        this.solvedLogStatisticsRepository = solvedLogStatisticsRepository;
+        this.algorithmCatalog = algorithmCatalog;
+        this.userRepository = userRepository;
+        this.userDataVersionService = userDataVersionService;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 풀이 1건을 전체 / 알고리즘별 스트릭에 반영
+    // - 호출한 쪽(solved_log insert)의 트랜잭션에 참여, solved_log 저장 이후 호출
+    @Transactional
+    public void recordSolved(Integer userId, Integer algorithmId, LocalDate solvedDate) {
+        record(userId, UserStreak.OVERALL_ALGORITHM_ID, solvedDate);
+        record(userId, algorithmId, solvedDate);
+    }
+
+    // 일괄 기록된 풀이 (같은 사용자) 를 전체 / 알고리즘별 스트릭에 반영
+    // - 호출한 쪽(solved_log insert)의 트랜잭션에 참여, solved_log 저장 이후 호출
+    // - 스트릭 키마다 행 잠금 1회 + 새 풀이일 범위 주변 일자만 조회 (재생성처럼 전체 이력을 읽거나 행을 지우지 않음)
+    // - 키 잠금 순서 : 전체(0) -> 알고리즘 id 오름차순 (단건 기록과 같은 순서)
+    @Transactional
+    public void recordSolvedBatch(Integer userId, Integer[] algorithmIds, LocalDate[] solvedDates) {
+        Map<Integer, TreeSet<LocalDate>> datesByKey = new TreeMap<>();
+        for (int i = 0; i < solvedDates.length; i++) {
+            datesByKey.computeIfAbsent(UserStreak.OVERALL_ALGORITHM_ID, key -> new TreeSet<>()).add(solvedDates[i]);
+            datesByKey.computeIfAbsent(algorithmIds[i], key -> new TreeSet<>()).add(solvedDates[i]);
+        }
+
+        for (Map.Entry<Integer, TreeSet<LocalDate>> entry : datesByKey.entrySet()) {
+            recordDates(userId, entry.getKey(), entry.getValue());
+        }
+    }
+
+    // 스트릭 조회 (solved_log 를 읽지 않음)
+    @Transactional(readOnly = true)
+    public StatisticsStreakResponseDto getStreaks(Integer userId, LocalDate baseDate) {
+        List<UserStreak> streaks = userStreakRepository.findByUserIdOrderByAlgorithmIdAsc(userId);
+
+        StatisticsStreakDto overall = null;
+        List<StatisticsStreakDto> algorithms = new ArrayList<>();
+
+        for (UserStreak streak : streaks) {
+            boolean isOverall = streak.getAlgorithmId() == UserStreak.OVERALL_ALGORITHM_ID;
+
+            // 어제 이후에 풀었으면 연속 유지 중
+            boolean alive = !streak.getLastSolvedDate().isBefore(baseDate.minusDays(1));
+
+            StatisticsStreakDto dto = StatisticsStreakDto.builder()
+                    .algorithmId(isOverall ? null : streak.getAlgorithmId())
+                    .algorithmName(isOverall ? null : algorithmCatalog.nameOf(streak.getAlgorithmId()))
+                    .lastSolvedDate(streak.getLastSolvedDate())
+                    .currentStreak(alive ? streak.getCurrentStreak() : 0)
+                    .bestStreak(streak.getBestStreak())
+                    .build();
+
+            if (isOverall) {
+                overall = dto;
+            } else {
+                algorithms.add(dto);
+            }
+        }
+
+        algorithms.sort(Comparator
+                .comparingInt(StatisticsStreakDto::getCurrentStreak).reversed()
+                .thenComparing(Comparator.comparingInt(StatisticsStreakDto::getBestStreak).reversed())
+                .thenComparing(StatisticsStreakDto::getAlgorithmId));
+
+        return StatisticsStreakResponseDto.builder()
+                .baseDate(baseDate)
+                .overall(overall)
+                .algorithms(algorithms)
+                .build();
+    }
+
+    // 특정 사용자의 스트릭을 solved_log 기준으로 재생성 (백필용)
+    @Transactional
+    public int rebuildUser(Integer userId) {
+        userStreakRepository.deleteAllByUserId(userId);
+
+        // 스트릭 키(0 = 전체, 알고리즘 id)별 푼 날짜 (bit index = epochDay)
+        Map<Integer, BitSet> solvedDaysByKey = new TreeMap<>();
+        try (Stream<SolvedLogStatisticsRepository.SolvedLogRowProjection> rows =
+                     solvedLogStatisticsRepository.streamRowsByUserId(userId)) {
+            rows.forEach(row -> {
+                int epochDay = (int) row.getSolvedDate().toEpochDay();
+                solvedDaysByKey.computeIfAbsent(UserStreak.OVERALL_ALGORITHM_ID, key -> new BitSet()).set(epochDay);
+                solvedDaysByKey.computeIfAbsent(row.getAlgorithmId(), key -> new BitSet()).set(epochDay);
+            });
+        }
+
+        List<UserStreak> streaks = new ArrayList<>(solvedDaysByKey.size());
+        for (Map.Entry<Integer, BitSet> entry : solvedDaysByKey.entrySet()) {
+            BitSet days = entry.getValue();
+
+            // 연속 구간 [start, end) 순회
+            int best = 0;
+            int lastRun = 0;
+            for (int start = days.nextSetBit(0); start >= 0; ) {
+                int end = days.nextClearBit(start);
+                lastRun = end - start;
+                best = Math.max(best, lastRun);
+                start = days.nextSetBit(end);
+            }
+
+            streaks.add(UserStreak.builder()
+                    .userId(userId)
+                    .algorithmId(entry.getKey())
+                    .lastSolvedDate(LocalDate.ofEpochDay(days.length() - 1))
+                    .currentStreak(lastRun)
+                    .bestStreak(best)
+                    .build());
+        }
+        userStreakRepository.saveAll(streaks);
+
+        // 요청 이벤트 없이 바뀌는 경로 -> ETag 갱신
+        userDataVersionService.bump(userId);
+
+        return streaks.size();
+    }
+
+    // 전체 사용자 스트릭 재생성 (백필용)
+    // - REBUILD_PAGE_SIZE 명 단위로 커밋, 사용자마다 영속성 컨텍스트 비움 (UserMonthStatsService.rebuildAll 과 동일)
+    public int rebuildAll() {
+        List<Integer> userIds = userRepository.findAllUserIds();
+        int streaks = 0;
+        for (int from = 0; from < userIds.size(); from += REBUILD_PAGE_SIZE) {
+            List<Integer> page = userIds.subList(from, Math.min(from + REBUILD_PAGE_SIZE, userIds.size()));
+            streaks += transactionTemplate.execute(status -> {
+                int rebuilt = 0;
+                for (Integer userId : page) {
+                    rebuilt += rebuildUser(userId);
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+                return rebuilt;
+            });
+        }
+        return streaks;
+    }
+
+    // 스트릭 키 하나에 풀이일 반영
+    private void record(Integer userId, Integer streakAlgorithmId, LocalDate solvedDate) {
+        // 1) 신규 / 마지막 풀이일 이후 : 단일 upsert 로 O(1) 처리
+        if (userStreakRepository.recordInOrder(userId, streakAlgorithmId, solvedDate) > 0) {
+            return;
+        }
+
+        // 2) 마지막 풀이일 당일 / 이전(백필) : 행 잠금 후 판단
+        UserStreak streak = userStreakRepository.findForUpdate(userId, streakAlgorithmId).orElse(null);
+        if (streak == null || !solvedDate.isBefore(streak.getLastSolvedDate())) {
+            return;
+        }
+
+        recomputeAround(userId, streakAlgorithmId, streak, solvedDate);
+    }
+
+    // 스트릭 키 하나에 풀이일 여러 개 반영
+    // - 가장 이른 날짜로 단건 upsert (행이 없으면 생성) 후 행 잠금
+    // - [가장 이른 날짜 - (best + 1), 가장 늦은 날짜 + (best + 1)] 안에서 연속 구간 재계산
+    //   (새 날짜를 포함하는 구간은 기존 구간(best 이하)을 이어 붙인 것이므로 이 범위 안에서 끝남)
+    private void recordDates(Integer userId, Integer streakAlgorithmId, TreeSet<LocalDate> dates) {
+        LocalDate first = dates.first();
+        LocalDate last = dates.last();
+
+        userStreakRepository.recordInOrder(userId, streakAlgorithmId, first);
+        UserStreak streak = userStreakRepository.findForUpdate(userId, streakAlgorithmId).orElse(null);
+        if (streak == null || (dates.size() == 1 && !first.isBefore(streak.getLastSolvedDate()))) {
+            // 날짜 1개가 마지막 풀이일 이후 / 당일 -> upsert 로 반영 완료
+            return;
+        }
+
+        int margin = streak.getBestStreak() + 1;
+        LocalDate windowStart = first.minusDays(margin);
+        LocalDate windowEnd = last.plusDays(margin);
+
+        List<SolvedLogStatisticsRepository.DailyCountProjection> rows =
+                (streakAlgorithmId == UserStreak.OVERALL_ALGORITHM_ID)
+                        ? solvedLogStatisticsRepository.countDailyByUserIdAndSolvedDateBetween(
+                                userId, windowStart, windowEnd)
+                        : solvedLogStatisticsRepository.countDailyByUserIdAndAlgorithmIdAndSolvedDateBetween(
+                                userId, streakAlgorithmId, windowStart, windowEnd);
+
+        // index = windowStart 기준 상대 일자
+        boolean[] solved = new boolean[(int) (windowEnd.toEpochDay() - windowStart.toEpochDay()) + 1];
+        for (SolvedLogStatisticsRepository.DailyCountProjection row : rows) {
+            solved[(int) (row.getSolvedDate().toEpochDay() - windowStart.toEpochDay())] = true;
+        }
+
+        int best = streak.getBestStreak();
+        int run = 0;
+        for (boolean day : solved) {
+            run = day ? run + 1 : 0;
+            best = Math.max(best, run);
+        }
+
+        // 마지막 풀이일이 범위 안이면 그날로 끝나는 구간이 현재 스트릭 (범위 밖이면 새 날짜와 이어질 수 없어 그대로)
+        LocalDate lastSolvedDate = last.isAfter(streak.getLastSolvedDate()) ? last : streak.getLastSolvedDate();
+        int current = streak.getCurrentStreak();
+        if (!lastSolvedDate.isAfter(windowEnd)) {
+            int lastIndex = (int) (lastSolvedDate.toEpochDay() - windowStart.toEpochDay());
+            int ending = 0;
+            while (lastIndex - ending >= 0 && solved[lastIndex - ending]) {
+                ending++;
+            }
+            current = lastSolvedDate.equals(streak.getLastSolvedDate()) ? Math.max(current, ending) : ending;
+        }
+
+        streak.setLastSolvedDate(lastSolvedDate);
+        streak.setCurrentStreak(current);
+        streak.setBestStreak(Math.max(best, current));
+    }
+
+    // 과거 날짜 풀이 반영 (solvedDate 전후 best + 1 일만 재계산)
+    // - 새로 생기는 연속 구간 = (solvedDate 직전 구간) + 1 + (직후 구간)
+    // - 기존 구간은 모두 best 이하이므로 [solvedDate - (best + 1), solvedDate + (best + 1)] 안에서 끝남
+    private void recomputeAround(Integer userId, Integer streakAlgorithmId, UserStreak streak, LocalDate solvedDate) {
+        int best = streak.getBestStreak();
+        int center = best + 1;
+        LocalDate windowStart = solvedDate.minusDays(center);
+        LocalDate windowEnd = solvedDate.plusDays(center);
+
+        List<SolvedLogStatisticsRepository.DailyCountProjection> rows =
+                (streakAlgorithmId == UserStreak.OVERALL_ALGORITHM_ID)
+                        ? solvedLogStatisticsRepository.countDailyByUserIdAndSolvedDateBetween(
+                                userId, windowStart, windowEnd)
+                        : solvedLogStatisticsRepository.countDailyByUserIdAndAlgorithmIdAndSolvedDateBetween(
+                                userId, streakAlgorithmId, windowStart, windowEnd);
+
+        // index = solvedDate 기준 상대 일자 + center
+        boolean[] solved = new boolean[center * 2 + 1];
+        long solvedDateCount = 0;
+        for (SolvedLogStatisticsRepository.DailyCountProjection row : rows) {
+            int index = (int) (row.getSolvedDate().toEpochDay() - windowStart.toEpochDay());
+            solved[index] = true;
+            if (index == center) {
+                solvedDateCount = row.getSolvedCount();
+            }
+        }
+
+        // 방금 저장한 1건 외에 같은 날 풀이가 있으면 이미 반영된 날
+        if (solvedDateCount > 1) {
+            return;
+        }
+
+        int before = 0;
+        while (center - before - 1 >= 0 && solved[center - before - 1]) {
+            before++;
+        }
+        int after = 0;
+        while (center + after + 1 < solved.length && solved[center + after + 1]) {
+            after++;
+        }
+
+        int run = before + 1 + after;
+        streak.setBestStreak(Math.max(best, run));
+
+        // 직후 구간이 마지막 풀이일까지 이어지면 현재 스트릭도 늘어남
+        if (solvedDate.plusDays(after).equals(streak.getLastSolvedDate())) {
+            streak.setCurrentStreak(run);
+        }
+    }
+
+}
@@ -2,14 +2,16 @@ package com.errorterry.algotrack_backend_spring.service;
 
 import com.errorterry.algotrack_backend_spring.domain.Algorithm;
 import com.errorterry.algotrack_backend_spring.domain.DailyGoal;
-import com.errorterry.algotrack_backend_spring.domain.User;
 import com.errorterry.algotrack_backend_spring.domain.WeeklyGoal;
 import com.errorterry.algotrack_backend_spring.dto.*;
-import com.errorterry.algotrack_backend_spring.repository.AlgorithmRepository;
+import com.errorterry.algotrack_backend_spring.event.WeeklyGoalChangedEvent;
+import com.errorterry.algotrack_backend_spring.repository.ConstraintViolations;
 import com.errorterry.algotrack_backend_spring.repository.DailyGoalRepository;
-import com.errorterry.algotrack_backend_spring.repository.UserRepository;
+import com.errorterry.algotrack_backend_spring.repository.WeeklyGoalBatchRepository;
 import com.errorterry.algotrack_backend_spring.repository.WeeklyGoalRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,8 +26,9 @@ public class WeeklyGoalService {
 
     private final WeeklyGoalRepository weeklyGoalRepository;
     private final DailyGoalRepository dailyGoalRepository;
-    private final UserRepository userRepository;
-    private final AlgorithmRepository algorithmRepository;
+    private final WeeklyGoalBatchRepository weeklyGoalBatchRepository;
+    private final AlgorithmCatalog algorithmCatalog;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 주간 목표 요약 조회
     // userId + weekStartDate 기준으로 WeeklyGoal 찾기
@@ -105,8 +108,9 @@ public class WeeklyGoalService {
     }
 
     // 주간 목표 생성/갱신
-    // - (userId, weekStartDate) 기준 WeeklyGoal 조회 후, 없으면 생성
-    // - algorithms[algorithmId + dailyPlan[7]] 기준으로 DailyGoal 생성/갱신
+    // - 요청 전체를 먼저 검증 (알고리즘 존재 여부는 카탈로그 조회, SQL 없음)
+    // - (알고리즘, 날짜)별 계획을 합친 뒤 weekly_goal upsert 1회 + daily_goal 일괄 upsert 1회
+    // - 기존 daily_goal 은 goal_count 누적, 없으면 생성 (조회 없이 ON CONFLICT 로 처리)
     @Transactional
     public WeeklyGoalSaveResponseDto createOrUpdateWeeklyGoal(
             Integer userId,
@@ -126,33 +130,21 @@ public class WeeklyGoalService {
             throw new IllegalArgumentException("algorithms가 비어있습니다.");
         }
 
-        // 1. User 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
-
-        // 2. weekly_goal 조회 또는 생성
-        WeeklyGoal weeklyGoal = weeklyGoalRepository
-                .findByUserUserIdAndWeekStartDate(userId, weekStartDate)
-                .orElseGet(() -> {
-                    WeeklyGoal newWeeklyGoal = WeeklyGoal.builder()
-                            .user(user)
-                            .weekStartDate(weekStartDate)
-                            .build();
-                    return weeklyGoalRepository.save(newWeeklyGoal);
-                });
-
-        Integer weeklyGoalId = weeklyGoal.getWeeklyGoalId();
-
-        // 3. 알고리즘별 dailyPlan 처리
+        // 1. 알고리즘별 dailyPlan 검증 + (알고리즘, 날짜)별 합산
+        // - 같은 알고리즘이 여러 번 오면 누적 (한 행을 한 SQL 에서 두 번 갱신할 수 없으므로 미리 합침)
+        // - 정렬된 순서로 upsert -> 동시 저장끼리 행 잠금 순서가 같음
+        Map<GoalKey, Integer> goalIncrements = new TreeMap<>(
+                Comparator.comparingInt(GoalKey::algorithmId).thenComparing(GoalKey::goalDate));
         for (WeeklyGoalAlgorithmPlanRequestDto algDto : request.getAlgorithms()) {
 
             Integer algorithmId = algDto.getAlgorithmId();
             if (algorithmId == null) {
                 throw new IllegalArgumentException("algorithmId : null");
             }
+            if (!algorithmCatalog.contains(algorithmId)) {
+                throw new IllegalArgumentException("존재하지 않는 algorithmId");
+            }
 
-            Algorithm algorithm = algorithmRepository.findById(algorithmId)
-                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 algorithmId"));
             int[] dailyPlan = algDto.getDailyPlan();
             if (dailyPlan == null || dailyPlan.length != 7) {
                 throw new IllegalArgumentException("dailyPlan 길이 오류 (7이 아님)");
@@ -170,39 +162,47 @@ public class WeeklyGoalService {
                     continue;
                 }
 
-                LocalDate goalDate = weekStartDate.plusDays(i);
-
-                // 기존 daily_goal 존재 여부 확인
-                Optional<DailyGoal> existingOpt =
-                        dailyGoalRepository.findByWeeklyGoalWeeklyGoalIdAndAlgorithmAlgorithmIdAndGoalDate(
-                                weeklyGoalId,
-                                algorithmId,
-                                goalDate
-                        );
-
-                if (existingOpt.isPresent()) {
-                    // 기존 daily_goal -> goal_count 누적
-                    DailyGoal existing = existingOpt.get();
-                    int currentGoalCount = existing.getGoalCount() != null ? existing.getGoalCount() : 0;
-                    existing.setGoalCount(currentGoalCount + plan);
-                } else {
-                    // 새 daily_goal 생성
-                    DailyGoal newDailyGoal = DailyGoal.builder()
-                            .weeklyGoal(weeklyGoal)
-                            .algorithm(algorithm)
-                            .goalDate(goalDate)
-                            .goalCount(plan)
-                            .solveCount(0)
-                            .build();
-                    dailyGoalRepository.save(newDailyGoal);
-                }
+                goalIncrements.merge(new GoalKey(algorithmId, weekStartDate.plusDays(i)), plan, Integer::sum);
+            }
+        }
+
+        // 2. weekly_goal 조회 또는 생성 (users FK 위반 -> 존재하지 않는 사용자)
+        int weeklyGoalId;
+        try {
+            weeklyGoalId = weeklyGoalBatchRepository.upsertWeeklyGoal(userId, weekStartDate);
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.isViolated(e, "fk_weekly_goal_users")) {
+                throw new IllegalArgumentException("존재하지 않는 사용자입니다.");
+            }
+            throw e;
+        }
+
+        // 3. daily_goal 일괄 upsert (goal_count 누적)
+        if (!goalIncrements.isEmpty()) {
+            Integer[] algorithmIds = new Integer[goalIncrements.size()];
+            String[] goalDates = new String[goalIncrements.size()];
+            Integer[] goalCounts = new Integer[goalIncrements.size()];
+            int g = 0;
+            for (Map.Entry<GoalKey, Integer> entry : goalIncrements.entrySet()) {
+                algorithmIds[g] = entry.getKey().algorithmId();
+                goalDates[g] = entry.getKey().goalDate().toString();
+                goalCounts[g] = entry.getValue();
+                g++;
             }
+            weeklyGoalBatchRepository.addDailyGoals(weeklyGoalId, algorithmIds, goalDates, goalCounts);
         }
 
+        // 목표 변경 이벤트 발행 (통계 캐시 무효화 등은 커밋 후 처리)
+        eventPublisher.publishEvent(new WeeklyGoalChangedEvent(userId, weekStartDate));
+
         return WeeklyGoalSaveResponseDto.builder()
                 .weeklyGoalId(weeklyGoalId)
                 .weekStartDate(weekStartDate)
                 .build();
     }
 
+    // daily_goal 누적 키 (알고리즘, 날짜)
+    private record GoalKey(int algorithmId, LocalDate goalDate) {
+    }
+
 }
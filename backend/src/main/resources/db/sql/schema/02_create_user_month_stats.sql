@@ -0,0 +1,28 @@
+-- 월간 통계 롤업 테이블
+-- solved_log insert 시 같은 트랜잭션에서 증가
+-- 기존 데이터 백필 : POST /api/_debug/rollup/rebuild
+
+-- 사용자 월간 통계
+CREATE TABLE user_month_stats (
+    user_id INT NOT NULL,
+    stat_month DATE NOT NULL,                                          -- 해당 월 1일
+    total_solved INT NOT NULL DEFAULT 0,
+    solved_day_mask INT NOT NULL DEFAULT 0,                            -- bit (day - 1)
+    day_counts INT[] NOT NULL DEFAULT array_fill(0, ARRAY[31]),        -- 일자별 풀이 수
+    day_tier_score_sums INT[] NOT NULL DEFAULT array_fill(0, ARRAY[31]), -- 일자별 티어 점수 합
+    tier_counts INT[] NOT NULL DEFAULT array_fill(0, ARRAY[8]),        -- X, Unrated, Bronze, ..., Ruby
+    tier_score_sum INT NOT NULL DEFAULT 0,
+    CONSTRAINT pk_user_month_stats PRIMARY KEY (user_id, stat_month),
+    CONSTRAINT fk_user_month_stats_users FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+);
+
+-- 사용자 월간 알고리즘별 풀이 수
+CREATE TABLE user_month_algorithm_stats (
+    user_id INT NOT NULL,
+    stat_month DATE NOT NULL,
+    algorithm_id INT NOT NULL,
+    solved_count INT NOT NULL DEFAULT 0 CHECK ( solved_count >= 0 ),
+    CONSTRAINT pk_user_month_algorithm_stats PRIMARY KEY (user_id, stat_month, algorithm_id),
+    CONSTRAINT fk_user_month_algorithm_stats_users FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE,
+    CONSTRAINT fk_user_month_algorithm_stats_algorithm FOREIGN KEY (algorithm_id) REFERENCES algorithm(algorithm_id) ON DELETE RESTRICT
+);
@@ -0,0 +1,207 @@
+-- 알고리즘 육각형 군집 축 컬럼 추가
+-- 0=IMPLEMENTATION, 1=DATA_STRUCTURE, 2=GRAPH, 3=GREEDY, 4=DP, 5=MATH (HexagonAxis ordinal)
+-- 6개 군집에 속하지 않는 알고리즘은 기본값 0(IMPLEMENTATION)
+
+ALTER TABLE algorithm
+    ADD COLUMN hexagon_axis SMALLINT NOT NULL DEFAULT 0,
+    ADD CONSTRAINT ck_algorithm_hexagon_axis CHECK ( hexagon_axis BETWEEN 0 AND 5 );
+
+-- 1. 자료구조·트리
+UPDATE algorithm SET hexagon_axis = 1 WHERE algorithm_name IN (
+    'heavy-light 분할',
+    '느리게 갱신되는 세그먼트 트리',
+    '다차원 세그먼트 트리',
+    '데카르트 트리',
+    '덱',
+    '덱을 이용한 구간 최댓값 트릭',
+    '레드-블랙 트리',
+    '리–차오 트리',
+    '링크/컷 트리',
+    '머지 소트 트리',
+    '분리 집합',
+    '비트 집합',
+    '세그먼트 트리',
+    '세그먼트 트리 비츠',
+    '센트로이드',
+    '센트로이드 분할',
+    '스택',
+    '스플레이 트리',
+    '연결 리스트',
+    '우선순위 큐',
+    '자료 구조',
+    '작은 집합에서 큰 집합으로 합치는 테크닉',
+    '접미사 트리',
+    '집합과 맵',
+    '최소 공통 조상',
+    '큐',
+    '키네틱 세그먼트 트리',
+    '탑 트리',
+    '트라이',
+    '트리',
+    '트리 동형 사상',
+    '트리 분할',
+    '트리 압축',
+    '트리를 사용한 집합과 맵',
+    '트리의 지름',
+    '퍼시스턴트 세그먼트 트리',
+    '해시를 사용한 집합과 맵',
+    '해싱',
+    '회문 트리',
+    '희소 배열'
+);
+
+-- 2. 그래프·탐색·최단경로
+UPDATE algorithm SET hexagon_axis = 2 WHERE algorithm_name IN (
+    '0-1 너비 우선 탐색',
+    '강한 연결 요소',
+    '격자 그래프',
+    '그래프 이론',
+    '그래프 탐색',
+    '깊이 우선 탐색',
+    '너비 우선 탐색',
+    '단절점과 단절선',
+    '데이크스트라',
+    '도미네이터 트리',
+    '방향 비순환 그래프',
+    '벨만–포드',
+    '서큘레이션',
+    '선분 교차 판정',
+    '선인장',
+    '스토어–바그너',
+    '쌍대 그래프',
+    '양방향 탐색',
+    '오일러 경로',
+    '오일러 경로 테크닉',
+    '오프라인 동적 연결성 판정',
+    '위상 정렬',
+    '유향 최소 스패닝 트리',
+    '이분 그래프',
+    '이분 매칭',
+    '이중 연결 요소',
+    '최단 경로',
+    '최대 유량',
+    '최대 유량 최소 컷 정리',
+    '최소 비용 최대 유량',
+    '최소 스패닝 트리',
+    '평면 그래프',
+    '플로이드–워셜',
+    '함수형 그래프',
+    '헝가리안',
+    '현 그래프'
+);
+
+-- 3. 그리디·투 포인터
+UPDATE algorithm SET hexagon_axis = 3 WHERE algorithm_name IN (
+    'cdq 분할 정복',
+    'mo''s',
+    '값 / 좌표 압축',
+    '그리디 알고리즘',
+    '단조 큐를 이용한 최적화',
+    '두 포인터',
+    '매개 변수 탐색',
+    '병렬 이분 탐색',
+    '분할 정복',
+    '분할 정복을 사용한 최적화',
+    '분할 정복을 이용한 거듭제곱',
+    '삼분 탐색',
+    '스위핑',
+    '슬라이딩 윈도우',
+    '이분 탐색',
+    '정렬',
+    '제곱근 분할법',
+    '중간에서 만나기',
+    '차분 배열 트릭',
+    '오프라인 쿼리'
+);
+
+-- 4. DP·조합론
+UPDATE algorithm SET hexagon_axis = 4 WHERE algorithm_name IN (
+    '가장 긴 증가하는 부분 수열 문제',
+    '게임 이론',
+    '다이나믹 프로그래밍',
+    '덱을 이용한 다이나믹 프로그래밍',
+    '린드스트롬–게셀–비엔노 보조정리',
+    '매트로이드',
+    '배낭 문제',
+    '번사이드 보조정리',
+    '부분집합의 합 다이나믹 프로그래밍',
+    '비트필드를 이용한 다이나믹 프로그래밍',
+    '생성 함수',
+    '스프라그–그런디 정리',
+    '안정 결혼 문제',
+    '외판원 순회 문제',
+    '일반적인 매칭',
+    '자릿수를 이용한 다이나믹 프로그래밍',
+    '조합론',
+    '최대 부분 배열 문제',
+    '최장 공통 부분 수열 문제',
+    '커넥션 프로파일을 이용한 다이나믹 프로그래밍',
+    '크누스 최적화',
+    '트리에서의 다이나믹 프로그래밍',
+    '트리에서의 전방향 다이나믹 프로그래밍',
+    '포함 배제의 원리',
+    '홀의 결혼 정리'
+);
+
+-- 5. 수학·정수론·기하
+UPDATE algorithm SET hexagon_axis = 5 WHERE algorithm_name IN (
+    '3차원 기하학',
+    '4차원 이상의 기하학',
+    '가우스 소거법',
+    '각도 정렬',
+    '고속 푸리에 변환',
+    '그린 정리',
+    '기댓값의 선형성',
+    '기하학',
+    '누적 합',
+    '다각형의 넓이',
+    '다항식 보간법',
+    '다항식을 이용한 선형점화식 계산',
+    '델로네 삼각분할',
+    '뤼카 정리',
+    '모듈로 곱셈 역원',
+    '뫼비우스 반전 공식',
+    '물리학',
+    '미적분학',
+    '밀러–라빈 소수 판별법',
+    '반평면 교집합',
+    '벌리캠프–매시',
+    '베이즈 정리',
+    '보로노이 다이어그램',
+    '볼록 껍질',
+    '볼록 껍질을 이용한 최적화',
+    '볼록 다각형 내부의 점 판정',
+    '비둘기집 원리',
+    '사칙연산',
+    '생일 문제',
+    '선형 계획법',
+    '선형대수학',
+    '소수 판정',
+    '소인수분해',
+    '수치해석',
+    '수학',
+    '에라토스테네스의 체',
+    '오목 다각형 내부의 점 판정',
+    '오일러 지표 (χ=v-e+f)',
+    '오일러 피 함수',
+    '유리 등차수열의 내림 합',
+    '유클리드 호제법',
+    '이산 로그',
+    '이산 제곱근',
+    '임의 정밀도 / 큰 수 연산',
+    '정수론',
+    '조화수',
+    '중국인의 나머지 정리',
+    '지수승강 보조정리',
+    '최소 외접원',
+    '통계학',
+    '페르마의 소정리',
+    '폴라드 로',
+    '피사노 주기',
+    '피타고라스 정리',
+    '픽의 정리',
+    '홀짝성',
+    '확률론',
+    '확장 유클리드 호제법',
+    '회전하는 캘리퍼스'
+);
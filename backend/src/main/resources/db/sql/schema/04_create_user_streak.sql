@@ -0,0 +1,14 @@
+-- 연속 풀이(스트릭) 상태 테이블
+-- solved_log insert 시 같은 트랜잭션에서 갱신
+-- 기존 데이터 백필 : POST /api/_debug/streak/rebuild
+
+-- 사용자 스트릭 (algorithm_id = 0 : 전체, 그 외 : 알고리즘별)
+CREATE TABLE user_streak (
+    user_id INT NOT NULL,
+    algorithm_id INT NOT NULL,
+    last_solved_date DATE NOT NULL,                                    -- 마지막으로 푼 날
+    current_streak INT NOT NULL DEFAULT 1 CHECK ( current_streak >= 1 ), -- last_solved_date 로 끝나는 연속 일수
+    best_streak INT NOT NULL DEFAULT 1 CHECK ( best_streak >= current_streak ),
+    CONSTRAINT pk_user_streak PRIMARY KEY (user_id, algorithm_id),
+    CONSTRAINT fk_user_streak_users FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+);
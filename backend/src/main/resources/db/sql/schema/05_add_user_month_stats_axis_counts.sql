@@ -0,0 +1,19 @@
+-- 월간 롤업에 육각형 축별 풀이 수 추가 (플랫폼 순위 분포 갱신용)
+-- 길이 6, HexagonAxis 순서 (algorithm.hexagon_axis + 1 = 배열 인덱스)
+
+ALTER TABLE user_month_stats
+    ADD COLUMN axis_counts INT[] NOT NULL DEFAULT array_fill(0, ARRAY[6]);
+
+-- 기존 롤업 백필 (알고리즘별 롤업 기준)
+UPDATE user_month_stats s
+SET axis_counts = ARRAY(
+    SELECT COALESCE(SUM(mas.solved_count), 0)::INT
+    FROM generate_series(0, 5) AS axis
+    LEFT JOIN algorithm a ON a.hexagon_axis = axis
+    LEFT JOIN user_month_algorithm_stats mas
+        ON mas.algorithm_id = a.algorithm_id
+       AND mas.user_id = s.user_id
+       AND mas.stat_month = s.stat_month
+    GROUP BY axis
+    ORDER BY axis
+);
@@ -0,0 +1,23 @@
+-- solved_log 티어 라벨(text) -> solved.ac 난이도(smallint)
+-- 0 = Unrated, 1~30 = Bronze V ~ Ruby I, NULL = 정보 없음 (기존 'X')
+-- 티어 라벨은 애플리케이션에서 ProblemTier.fromLevel 로 계산
+
+ALTER TABLE solved_log
+    ADD COLUMN problem_level SMALLINT,
+    ADD CONSTRAINT ck_solved_log_problem_level CHECK ( problem_level BETWEEN 0 AND 30 );
+
+-- 기존 라벨 백필 (원래 난이도는 알 수 없으므로 티어 최소 난이도로 보정)
+UPDATE solved_log
+SET problem_level = CASE problem_tier
+    WHEN 'Unrated'  THEN 0
+    WHEN 'Bronze'   THEN 1
+    WHEN 'Silver'   THEN 6
+    WHEN 'Gold'     THEN 11
+    WHEN 'Platinum' THEN 16
+    WHEN 'Diamond'  THEN 21
+    WHEN 'Ruby'     THEN 26
+    ELSE NULL
+END;
+
+ALTER TABLE solved_log
+    DROP COLUMN problem_tier;
@@ -0,0 +1,16 @@
+-- 플랫폼 월간 리포트 (운영용)
+-- 사용자 id 구간별 병렬 집계 결과를 월 1행으로 저장 -> 조회는 PK 1건
+-- 생성 : 매월 1일 지난 달 자동 생성 / POST /api/_debug/platform-report?month=YYYY-MM
+
+CREATE TABLE platform_monthly_report (
+    report_month DATE NOT NULL,                                        -- 해당 월 1일
+    total_solved BIGINT NOT NULL DEFAULT 0,
+    active_users INT NOT NULL DEFAULT 0,                               -- 해당 월 1문제 이상 푼 사용자 수
+    tier_counts BIGINT[] NOT NULL DEFAULT array_fill(0, ARRAY[8]),     -- X, Unrated, Bronze, ..., Ruby
+    axis_counts BIGINT[] NOT NULL DEFAULT array_fill(0, ARRAY[6]),     -- HexagonAxis 순서 풀이 수
+    axis_users INT[] NOT NULL DEFAULT array_fill(0, ARRAY[6]),         -- HexagonAxis 순서 풀이 사용자 수
+    partition_count INT NOT NULL DEFAULT 0,
+    elapsed_ms BIGINT NOT NULL DEFAULT 0,
+    generated_at TIMESTAMP NOT NULL DEFAULT now(),
+    CONSTRAINT pk_platform_monthly_report PRIMARY KEY (report_month)
+);
@@ -0,0 +1,18 @@
+-- 쓰기 요청 멱등 키 (Idempotency-Key 헤더)
+-- 같은 키로 다시 들어온 요청은 쓰기 트랜잭션을 다시 실행하지 않고 저장된 응답을 반환
+-- 키 선점(INSERT) / 쓰기 / 응답 저장(UPDATE)을 같은 트랜잭션에서 처리 -> 동시에 들어온 재시도는 선점한 쪽 커밋을 기다린 뒤 저장된 응답 사용
+-- 만료된 행은 주기적으로 삭제 (만료됐지만 아직 남은 키는 새 요청이 다시 선점)
+
+CREATE TABLE idempotency_key (
+    user_id INT NOT NULL,
+    scope SMALLINT NOT NULL,                   -- IdempotencyService.Scope ordinal (0 = solve-log, 1 = weekly-goal)
+    idem_key VARCHAR(64) NOT NULL,
+    request_hash BIGINT NOT NULL,              -- 요청 본문 해시 (같은 키로 다른 요청이면 오류)
+    status_code SMALLINT,                      -- 응답 저장 전(선점 직후)에는 NULL
+    response_body TEXT,                        -- 응답 JSON (본문 없으면 NULL)
+    expires_at TIMESTAMP NOT NULL,
+    CONSTRAINT pk_idempotency_key PRIMARY KEY (user_id, scope, idem_key),
+    CONSTRAINT fk_idempotency_key_users FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_idempotency_key_expires_at ON idempotency_key (expires_at);
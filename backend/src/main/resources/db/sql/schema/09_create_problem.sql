@@ -0,0 +1,27 @@
+-- 문제 카탈로그 (문제별 난이도 + 알고리즘 태그 집합)
+-- 태그는 algorithm_id - 1 을 비트 번호로 쓰는 256비트 집합 (BIGINT 4개)
+--   tag_bits_N 의 비트 b = algorithm_id (N * 64 + b + 1)
+--   현재 algorithm 226개 -> 비트 0 ~ 225 사용
+-- 애플리케이션 기동 시 전체 적재 (ProblemCatalog), 변경 후 POST /api/_debug/problem-catalog/reload
+
+CREATE TABLE problem (
+    problem_id INT NOT NULL,
+    problem_level SMALLINT CHECK ( problem_level BETWEEN 0 AND 30 ),  -- NULL = 정보 없음
+    tag_bits_0 BIGINT NOT NULL DEFAULT 0,
+    tag_bits_1 BIGINT NOT NULL DEFAULT 0,
+    tag_bits_2 BIGINT NOT NULL DEFAULT 0,
+    tag_bits_3 BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT pk_problem PRIMARY KEY (problem_id)
+);
+
+-- 기존 solved_log 로 백필 (문제별로 기록된 알고리즘들을 태그로 합침)
+INSERT INTO problem (problem_id, problem_level, tag_bits_0, tag_bits_1, tag_bits_2, tag_bits_3)
+SELECT problem_id,
+       MAX(problem_level),
+       BIT_OR(CASE WHEN (algorithm_id - 1) / 64 = 0 THEN 1::BIGINT << ((algorithm_id - 1) % 64) ELSE 0 END),
+       BIT_OR(CASE WHEN (algorithm_id - 1) / 64 = 1 THEN 1::BIGINT << ((algorithm_id - 1) % 64) ELSE 0 END),
+       BIT_OR(CASE WHEN (algorithm_id - 1) / 64 = 2 THEN 1::BIGINT << ((algorithm_id - 1) % 64) ELSE 0 END),
+       BIT_OR(CASE WHEN (algorithm_id - 1) / 64 = 3 THEN 1::BIGINT << ((algorithm_id - 1) % 64) ELSE 0 END)
+FROM solved_log
+WHERE algorithm_id BETWEEN 1 AND 256
+GROUP BY problem_id;
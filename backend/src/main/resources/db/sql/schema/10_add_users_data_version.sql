@@ -0,0 +1,6 @@
+-- 사용자 데이터 버전 (조건부 GET ETag 용)
+-- - solved_log / daily_goal / 월간 롤업 / 스트릭을 바꾸는 모든 쓰기 경로가 같은 트랜잭션에서 +1
+--   (서버 요청, 가져오기 CLI, 롤업 / 스트릭 재생성 포함 -> 다른 프로세스의 쓰기도 ETag 에 반영)
+
+ALTER TABLE users
+    ADD COLUMN data_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,41 @@
+-- 월간 롤업에 문제 태그 기준 육각형 축별 풀이 수 추가 (월간 통계 육각형 그래프용)
+-- 길이 6, HexagonAxis 순서 / 풀이 1건이 태그가 걸친 모든 축에 +1 (합이 total_solved 보다 클 수 있음)
+-- - axis_counts(기록된 알고리즘 1개 기준)는 플랫폼 순위 분포와 같은 기준이라 그대로 유지
+-- - 문제 카탈로그에 없는 문제는 기록된 알고리즘을 태그로 사용, 어느 축에도 걸리지 않으면 IMPLEMENTATION
+-- - problem 태그를 바꾼 뒤에는 롤업 재생성(POST /api/_debug/rollup/rebuild)으로 다시 계산
+
+ALTER TABLE user_month_stats
+    ADD COLUMN tag_axis_counts INT[] NOT NULL DEFAULT array_fill(0, ARRAY[6]);
+
+-- 기존 롤업 백필 (solved_log + problem 태그 + algorithm.hexagon_axis 기준)
+WITH solve_axis AS (
+    SELECT DISTINCT sl.solved_log_id,
+           sl.user_id,
+           date_trunc('month', sl.solved_date)::DATE AS stat_month,
+           COALESCE(a.hexagon_axis, 0) AS axis
+    FROM solved_log sl
+    LEFT JOIN problem p ON p.problem_id = sl.problem_id
+    LEFT JOIN algorithm a ON a.algorithm_id BETWEEN 1 AND 256 AND CASE
+        WHEN p.problem_id IS NULL THEN a.algorithm_id = sl.algorithm_id
+        ELSE ((CASE (a.algorithm_id - 1) / 64
+                   WHEN 0 THEN p.tag_bits_0
+                   WHEN 1 THEN p.tag_bits_1
+                   WHEN 2 THEN p.tag_bits_2
+                   ELSE p.tag_bits_3
+               END >> ((a.algorithm_id - 1) % 64)) & 1) = 1
+    END
+), month_axis AS (
+    SELECT user_id, stat_month, axis, COUNT(*)::INT AS solved
+    FROM solve_axis
+    GROUP BY user_id, stat_month, axis
+)
+UPDATE user_month_stats s
+SET tag_axis_counts = ARRAY(
+    SELECT COALESCE(ma.solved, 0)
+    FROM generate_series(0, 5) AS g(axis)
+    LEFT JOIN month_axis ma
+        ON ma.user_id = s.user_id
+       AND ma.stat_month = s.stat_month
+       AND ma.axis = g.axis
+    ORDER BY g.axis
+);
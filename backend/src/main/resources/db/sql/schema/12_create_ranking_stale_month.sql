@@ -0,0 +1,9 @@
+-- 플랫폼 순위 분포 재생성이 필요한 월 (가져오기 CLI 처럼 서버 프로세스 밖에서 solved_log 를 바꾼 경우)
+-- - 가져오기 병합이 insert 된 풀이의 월마다 marked_at 갱신 (같은 트랜잭션)
+-- - 서버는 주기적으로 조회해 마지막으로 본 값과 다른 월만 분포 재생성 (행을 지우지 않으므로 서버가 여러 대여도 각자 반영)
+
+CREATE TABLE ranking_stale_month (
+    stat_month DATE NOT NULL,                  -- 해당 월 1일
+    marked_at TIMESTAMP NOT NULL,
+    CONSTRAINT pk_ranking_stale_month PRIMARY KEY (stat_month)
+);
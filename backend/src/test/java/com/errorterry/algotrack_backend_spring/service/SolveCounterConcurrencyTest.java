@@ -0,0 +1,374 @@
+package com.errorterry.algotrack_backend_spring.service;
+
+import com.errorterry.algotrack_backend_spring.dto.SolvedLogBatchRequestDto;
+import com.errorterry.algotrack_backend_spring.dto.SolvedLogRequestDto;
+import com.errorterry.algotrack_backend_spring.dto.WeeklyGoalAlgorithmPlanRequestDto;
+import com.errorterry.algotrack_backend_spring.dto.WeeklyGoalCreateRequestDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.MountableFile;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 같은 사용자 / 알고리즘 / 날짜로 동시에 들어오는 풀이 기록에서 daily_goal 카운터가 유실되지 않는지 검증
+// - 단건 기록(여러 스레드, 중복 제출 포함) + 일괄 기록 + 주간 목표 수정이 동시에 실행
+// - 최종 solve_count == solved_log 건수, goal_count == 초기값 + 수정 누적
+// - 목표가 없는 날짜 / 알고리즘 풀이도 섞어서 월간 롤업 / 스트릭이 solved_log 재집계와 같은지 확인
+//   (여러 날짜, 월 경계, 빈 날 포함 / 목표 없는 행은 daily_goal 이 생기지 않아야 함)
+// - 실제 PostgreSQL 필요 (Docker 없으면 건너뜀)
+// - 처리량 하한 : -Dstress.min-solves-per-sec (기본 20, 느린 CI 기준)
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+        "jwt.secret=c3RyZXNzLXRlc3Qtc2VjcmV0LXN0cmVzcy10ZXN0LXNlY3JldC0wMTIzNDU2Nzg5",
+        "solve-log.ingest.mode=sync"
+})
+class SolveCounterConcurrencyTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withCopyFileToContainer(
+                    MountableFile.forClasspathResource("db/sql/schema/"),
+                    "/docker-entrypoint-initdb.d/"
+            );
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    private static final int USERS = 4;
+    private static final int ALGORITHMS = 5;
+    // 앞쪽 GOAL_ALGORITHMS 개 알고리즘만 daily_goal 생성 (나머지는 목표 없는 풀이)
+    private static final int GOAL_ALGORITHMS = 4;
+    private static final int THREADS = 16;
+    private static final int LIVE_SOLVES = 4000;
+    // LIVE_SOLVES 중 이 간격마다 직전 문제를 다시 제출 (중복)
+    private static final int DUPLICATE_EVERY = 5;
+    private static final int BATCHES = 8;
+    private static final int BATCH_SIZE = 250;
+    private static final int GOAL_EDITS = 200;
+    private static final int GOAL_EDIT_THREADS = 2;
+    private static final int INITIAL_GOAL = 1000;
+
+    private static final LocalDate SOLVED_DATE = LocalDate.of(2025, 3, 12);
+    private static final LocalDate WEEK_START = SOLVED_DATE.with(DayOfWeek.MONDAY);
+    // 풀이 날짜 = SOLVED_DATE - offset (0 이 절반 -> 목표 행 경합 유지, 나머지는 목표 없는 날 / 빈 날 / 전월)
+    private static final int[] DATE_OFFSETS = {0, 0, 0, 0, 0, 1, 2, 4, 11, 12, 13};
+
+    @Autowired
+    private SolvedLogService solvedLogService;
+
+    @Autowired
+    private WeeklyGoalService weeklyGoalService;
+
+    @Autowired
+    private AlgorithmCatalog algorithmCatalog;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final int[] userIds = new int[USERS];
+    private final String[] algorithmNames = new String[ALGORITHMS];
+    private final int[] algorithmIds = new int[ALGORITHMS];
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE users, algorithm RESTART IDENTITY CASCADE");
+
+        for (int u = 0; u < USERS; u++) {
+            userIds[u] = jdbcTemplate.queryForObject(
+                    "INSERT INTO users (social_id, nickname) VALUES (?, ?) RETURNING user_id",
+                    Integer.class, "stress-" + u, "stress-" + u);
+        }
+        for (int a = 0; a < ALGORITHMS; a++) {
+            algorithmNames[a] = "stress-algorithm-" + a;
+            algorithmIds[a] = jdbcTemplate.queryForObject(
+                    "INSERT INTO algorithm (algorithm_name, hexagon_axis) VALUES (?, ?) RETURNING algorithm_id",
+                    Integer.class, algorithmNames[a], a % 6);
+        }
+        algorithmCatalog.reload();
+
+        // 모든 사용자 x 목표 알고리즘에 SOLVED_DATE 목표 생성
+        for (int userId : userIds) {
+            int weeklyGoalId = jdbcTemplate.queryForObject(
+                    "INSERT INTO weekly_goal (user_id, week_start_date) VALUES (?, ?) RETURNING weekly_goal_id",
+                    Integer.class, userId, WEEK_START);
+            for (int a = 0; a < GOAL_ALGORITHMS; a++) {
+                jdbcTemplate.update(
+                        "INSERT INTO daily_goal (weekly_goal_id, algorithm_id, goal_date, goal_count) VALUES (?, ?, ?, ?)",
+                        weeklyGoalId, algorithmIds[a], SOLVED_DATE, INITIAL_GOAL);
+            }
+        }
+    }
+
+    @Test
+    void concurrentSolvesKeepExactDailyGoalCounts() throws Exception {
+        // 기대값 : (사용자 index, 알고리즘 index) -> SOLVED_DATE 에 기록될 고유 문제 수 / 목표 증가량
+        int[][] expectedSolves = new int[USERS][ALGORITHMS];
+        int[][] expectedGoalIncrease = new int[USERS][ALGORITHMS];
+
+        // 1. 단건 기록 요청 (사용자 / 알고리즘이 번갈아 같은 행에 몰리도록)
+        List<Integer> liveUsers = new ArrayList<>();
+        List<SolvedLogRequestDto> liveRequests = new ArrayList<>();
+        int problemId = 1;
+        for (int i = 0; i < LIVE_SOLVES; i++) {
+            int u = i % USERS;
+            int a = (i / USERS) % ALGORITHMS;
+            int offset = DATE_OFFSETS[(i / (USERS * ALGORITHMS)) % DATE_OFFSETS.length];
+            if (i % DUPLICATE_EVERY == DUPLICATE_EVERY - 1) {
+                // 같은 사용자의 직전 요청을 그대로 재제출 -> 카운트 증가 없음
+                liveUsers.add(userIds[u]);
+                liveRequests.add(liveRequests.get(i - USERS));
+                continue;
+            }
+            liveUsers.add(userIds[u]);
+            liveRequests.add(solve(a, problemId++, offset));
+            if (offset == 0) {
+                expectedSolves[u][a]++;
+            }
+        }
+
+        // 2. 일괄 기록 요청 (단건과 겹치지 않는 문제 번호, 같은 날짜 분포 / 같은 목표 행)
+        List<Integer> batchUsers = new ArrayList<>();
+        List<SolvedLogBatchRequestDto> batchRequests = new ArrayList<>();
+        for (int b = 0; b < BATCHES; b++) {
+            int u = b % USERS;
+            List<SolvedLogRequestDto> items = new ArrayList<>();
+            for (int j = 0; j < BATCH_SIZE; j++) {
+                int a = j % ALGORITHMS;
+                int offset = DATE_OFFSETS[(j / ALGORITHMS) % DATE_OFFSETS.length];
+                items.add(solve(a, 1_000_000 + b * BATCH_SIZE + j, offset));
+                if (offset == 0) {
+                    expectedSolves[u][a]++;
+                }
+            }
+            batchUsers.add(userIds[u]);
+            batchRequests.add(SolvedLogBatchRequestDto.builder().items(items).build());
+        }
+
+        // 3. 주간 목표 수정 (SOLVED_DATE 요일에 +1, solve_count 를 덮어쓰거나 goal_count 누적이 유실되면 실패)
+        int dayIndex = SOLVED_DATE.getDayOfWeek().getValue() - 1;
+        List<Integer> goalUsers = new ArrayList<>();
+        List<WeeklyGoalCreateRequestDto> goalRequests = new ArrayList<>();
+        for (int k = 0; k < GOAL_EDITS; k++) {
+            int u = k % USERS;
+            int a = (k / USERS) % GOAL_ALGORITHMS;
+            int[] dailyPlan = new int[7];
+            dailyPlan[dayIndex] = 1;
+            goalUsers.add(userIds[u]);
+            goalRequests.add(WeeklyGoalCreateRequestDto.builder()
+                    .weekStartDate(WEEK_START)
+                    .algorithms(List.of(WeeklyGoalAlgorithmPlanRequestDto.builder()
+                            .algorithmId(algorithmIds[a])
+                            .dailyPlan(dailyPlan)
+                            .build()))
+                    .build());
+            expectedGoalIncrease[u][a]++;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1 + GOAL_EDIT_THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            ConcurrentLinkedQueue<Integer> next = new ConcurrentLinkedQueue<>();
+            for (int i = 0; i < LIVE_SOLVES; i++) {
+                next.add(i);
+            }
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    Integer i;
+                    while ((i = next.poll()) != null) {
+                        solvedLogService.recordSolvedAndIncreaseDailyGoal(liveUsers.get(i), liveRequests.get(i));
+                    }
+                    return null;
+                }));
+            }
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int b = 0; b < BATCHES; b++) {
+                    solvedLogService.recordSolvedBatch(batchUsers.get(b), batchRequests.get(b));
+                }
+                return null;
+            }));
+            // 목표 수정도 여러 스레드에서 동시에 (goal_count 누적 유실 여부 확인)
+            for (int t = 0; t < GOAL_EDIT_THREADS; t++) {
+                int first = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int k = first; k < GOAL_EDITS; k += GOAL_EDIT_THREADS) {
+                        weeklyGoalService.createOrUpdateWeeklyGoal(goalUsers.get(k), goalRequests.get(k));
+                    }
+                    return null;
+                }));
+            }
+
+            long startedAt = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                // 작업 중 예외가 있으면 여기서 ExecutionException 으로 실패
+                future.get(5, TimeUnit.MINUTES);
+            }
+            double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+            double solvesPerSecond = (LIVE_SOLVES + BATCHES * BATCH_SIZE) / seconds;
+
+            double minSolvesPerSecond = Double.parseDouble(System.getProperty("stress.min-solves-per-sec", "20"));
+            assertThat(solvesPerSecond).isGreaterThanOrEqualTo(minSolvesPerSecond);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 4. 검증 (daily_goal)
+        for (int u = 0; u < USERS; u++) {
+            for (int a = 0; a < ALGORITHMS; a++) {
+                Integer logged = jdbcTemplate.queryForObject("""
+                        SELECT count(*) FROM solved_log
+                        WHERE user_id = ? AND algorithm_id = ? AND solved_date = ?
+                        """, Integer.class, userIds[u], algorithmIds[a], SOLVED_DATE);
+                assertThat(logged).as("solved_log user=%d alg=%d", u, a).isEqualTo(expectedSolves[u][a]);
+
+                if (a >= GOAL_ALGORITHMS) {
+                    // 목표 없는 알고리즘 : 풀이 기록이 daily_goal 행을 만들면 안 됨
+                    Integer goalRows = jdbcTemplate.queryForObject("""
+                            SELECT count(*)
+                            FROM daily_goal dg
+                            JOIN weekly_goal wg ON wg.weekly_goal_id = dg.weekly_goal_id
+                            WHERE wg.user_id = ? AND dg.algorithm_id = ?
+                            """, Integer.class, userIds[u], algorithmIds[a]);
+                    assertThat(goalRows).as("daily_goal rows user=%d alg=%d", u, a).isZero();
+                    continue;
+                }
+
+                Map<String, Object> goal = jdbcTemplate.queryForMap("""
+                        SELECT dg.solve_count, dg.goal_count
+                        FROM daily_goal dg
+                        JOIN weekly_goal wg ON wg.weekly_goal_id = dg.weekly_goal_id
+                        WHERE wg.user_id = ? AND dg.algorithm_id = ? AND dg.goal_date = ?
+                        """, userIds[u], algorithmIds[a], SOLVED_DATE);
+
+                assertThat(goal.get("solve_count")).as("solve_count user=%d alg=%d", u, a)
+                        .isEqualTo(expectedSolves[u][a]);
+                assertThat(goal.get("goal_count")).as("goal_count user=%d alg=%d", u, a)
+                        .isEqualTo(INITIAL_GOAL + expectedGoalIncrease[u][a]);
+            }
+        }
+
+        // 5. 검증 (월간 롤업 == solved_log 재집계)
+        assertSameRows("user_month_stats.total_solved", """
+                SELECT user_id, stat_month, total_solved AS solved
+                FROM user_month_stats
+                WHERE total_solved > 0
+                ORDER BY 1, 2
+                """, """
+                SELECT user_id, date_trunc('month', solved_date)::date AS stat_month, count(*)::int AS solved
+                FROM solved_log
+                GROUP BY 1, 2
+                ORDER BY 1, 2
+                """);
+        assertSameRows("user_month_stats.day_counts", """
+                SELECT s.user_id, s.stat_month + (d.day - 1)::int AS solved_date, d.solved
+                FROM user_month_stats s, unnest(s.day_counts) WITH ORDINALITY AS d(solved, day)
+                WHERE d.solved > 0
+                ORDER BY 1, 2
+                """, """
+                SELECT user_id, solved_date, count(*)::int AS solved
+                FROM solved_log
+                GROUP BY 1, 2
+                ORDER BY 1, 2
+                """);
+        // tier_counts 순서 = ProblemTier ordinal (X, Unrated, Bronze, ..., Ruby)
+        assertSameRows("user_month_stats.tier_counts", """
+                SELECT s.user_id, s.stat_month, (t.tier - 1)::int AS tier_ordinal, t.solved
+                FROM user_month_stats s, unnest(s.tier_counts) WITH ORDINALITY AS t(solved, tier)
+                WHERE t.solved > 0
+                ORDER BY 1, 2, 3
+                """, """
+                SELECT user_id,
+                       date_trunc('month', solved_date)::date AS stat_month,
+                       CASE
+                           WHEN problem_level IS NULL OR problem_level < 0 THEN 0
+                           WHEN problem_level = 0 THEN 1
+                           ELSE 1 + LEAST((problem_level + 4) / 5, 6)
+                       END AS tier_ordinal,
+                       count(*)::int AS solved
+                FROM solved_log
+                GROUP BY 1, 2, 3
+                ORDER BY 1, 2, 3
+                """);
+        assertSameRows("user_month_algorithm_stats", """
+                SELECT user_id, stat_month, algorithm_id, solved_count AS solved
+                FROM user_month_algorithm_stats
+                WHERE solved_count > 0
+                ORDER BY 1, 2, 3
+                """, """
+                SELECT user_id, date_trunc('month', solved_date)::date AS stat_month, algorithm_id, count(*)::int AS solved
+                FROM solved_log
+                GROUP BY 1, 2, 3
+                ORDER BY 1, 2, 3
+                """);
+
+        // 6. 검증 (스트릭 == solved_log 풀이일 연속 구간 재계산, algorithm_id 0 = 전체)
+        // - 연속 구간 : 날짜 - 행 번호 가 같은 날짜끼리 묶음
+        // - current = 마지막 풀이일로 끝나는 구간 길이, best = 가장 긴 구간 길이
+        assertSameRows("user_streak", """
+                SELECT user_id, algorithm_id, last_solved_date, current_streak, best_streak
+                FROM user_streak
+                ORDER BY 1, 2
+                """, """
+                WITH days AS (
+                    SELECT user_id, algorithm_id, solved_date FROM solved_log
+                    UNION
+                    SELECT user_id, 0, solved_date FROM solved_log
+                ), runs AS (
+                    SELECT user_id, algorithm_id, max(solved_date) AS run_end, count(*)::int AS run_length
+                    FROM (
+                        SELECT user_id, algorithm_id, solved_date,
+                               solved_date - (row_number() OVER (PARTITION BY user_id, algorithm_id ORDER BY solved_date))::int AS island
+                        FROM days
+                    ) d
+                    GROUP BY user_id, algorithm_id, island
+                )
+                SELECT user_id,
+                       algorithm_id,
+                       max(run_end) AS last_solved_date,
+                       (array_agg(run_length ORDER BY run_end DESC))[1] AS current_streak,
+                       max(run_length) AS best_streak
+                FROM runs
+                GROUP BY 1, 2
+                ORDER BY 1, 2
+                """);
+    }
+
+    private void assertSameRows(String description, String actualSql, String recountSql) {
+        List<Map<String, Object>> actual = jdbcTemplate.queryForList(actualSql);
+        List<Map<String, Object>> recount = jdbcTemplate.queryForList(recountSql);
+
+        assertThat(recount).as("%s recount", description).isNotEmpty();
+        assertThat(actual).as(description).isEqualTo(recount);
+    }
+
+    // 난이도는 문제 번호로 분산 (37 의 배수는 난이도 정보 없음)
+    private SolvedLogRequestDto solve(int algorithmIndex, int problemId, int dateOffset) {
+        return SolvedLogRequestDto.builder()
+                .algorithmName(algorithmNames[algorithmIndex])
+                .problemId(problemId)
+                .solvedDate(SOLVED_DATE.minusDays(dateOffset))
+                .problemTier(problemId % 37 == 0 ? null : problemId % 31)
+                .build();
+    }
+}
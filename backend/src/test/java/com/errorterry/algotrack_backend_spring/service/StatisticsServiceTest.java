@@ -0,0 +1,489 @@
+package com.errorterry.algotrack_backend_spring.service;
+
+import com.errorterry.algotrack_backend_spring.domain.Algorithm;
+import com.errorterry.algotrack_backend_spring.domain.HexagonAxis;
+import com.errorterry.algotrack_backend_spring.domain.ProblemTier;
+import com.errorterry.algotrack_backend_spring.domain.UserMonthStatsId;
+import com.errorterry.algotrack_backend_spring.dto.*;
+import com.errorterry.algotrack_backend_spring.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// 월간 통계 단일 스캔 / 롤업 결과가 기존(쿼리 7회) 구현과 동일한지 검증
+class StatisticsServiceTest {
+
+    private static final Integer USER_ID = 1;
+
+    // algorithmId -> (이름, 육각형 축)
+    private static final Map<Integer, String> ALGORITHM_NAMES = Map.of(
+            1, "수학",
+            2, "구현",
+            3, "다이나믹 프로그래밍",
+            4, "자료 구조",
+            5, "그래프 이론",
+            6, "그리디 알고리즘",
+            7, "분류되지 않은 태그"
+    );
+
+    private static final Map<String, String> AXIS_BY_NAME = Map.of(
+            "수학", "MATH",
+            "구현", "IMPLEMENTATION",
+            "다이나믹 프로그래밍", "DP",
+            "자료 구조", "DATA_STRUCTURE",
+            "그래프 이론", "GRAPH",
+            "그리디 알고리즘", "GREEDY"
+    );
+
+    private static final String[][] AXES = {
+            {"IMPLEMENTATION", "구현·시뮬레이션·문자열"},
+            {"DATA_STRUCTURE", "자료구조·트리"},
+            {"GRAPH", "그래프·탐색·최단경로"},
+            {"GREEDY", "그리디·투 포인터"},
+            {"DP", "DP·조합론"},
+            {"MATH", "수학·정수론·기하"}
+    };
+
+    private static final List<String> TIER_ORDER = List.of(
+            "X", "Unrated", "Bronze", "Silver", "Gold", "Platinum", "Diamond", "Ruby"
+    );
+
+    private static final String[] WEEKDAY_LABELS = {"일", "월", "화", "수", "목", "금", "토"};
+
+    private UserMonthStatsRepository userMonthStatsRepository;
+    private UserMonthAlgorithmStatsRepository userMonthAlgorithmStatsRepository;
+    private AlgorithmRepository algorithmRepository;
+    private DailyGoalRepository dailyGoalRepository;
+    private SolvedLogStatisticsRepository solvedLogStatisticsRepository;
+    private SolvedLogCursorRepository solvedLogCursorRepository;
+
+    private ProblemCatalog problemCatalog;
+    private StatisticsService statisticsService;
+
+    private List<Row> logs;
+
+    @BeforeEach
+    void setUp() {
+        userMonthStatsRepository = mock(UserMonthStatsRepository.class);
+        userMonthAlgorithmStatsRepository = mock(UserMonthAlgorithmStatsRepository.class);
+        algorithmRepository = mock(AlgorithmRepository.class);
+        dailyGoalRepository = mock(DailyGoalRepository.class);
+        solvedLogStatisticsRepository = mock(SolvedLogStatisticsRepository.class);
+        solvedLogCursorRepository = mock(SolvedLogCursorRepository.class);
+
+        // 알고리즘 카탈로그는 algorithm.hexagon_axis 컬럼 기준으로 적재 (이름 / 축 변환은 카탈로그만 사용)
+        when(algorithmRepository.findAll()).thenReturn(ALGORITHM_NAMES.entrySet().stream()
+                .map(entry -> Algorithm.builder()
+                        .algorithmId(entry.getKey())
+                        .algorithmName(entry.getValue())
+                        .hexagonAxis(HexagonAxis.valueOf(AXIS_BY_NAME.getOrDefault(entry.getValue(), "IMPLEMENTATION")))
+                        .build())
+                .collect(Collectors.toList()));
+        AlgorithmCatalog algorithmCatalog = new AlgorithmCatalog(algorithmRepository);
+        algorithmCatalog.reload();
+        // 문제 카탈로그 미적재 -> 기록된 알고리즘 기준 육각형 (기존 집계와 비교)
+        problemCatalog = new ProblemCatalog(null, algorithmCatalog);
+
+        statisticsService = new StatisticsService(
+                userMonthStatsRepository,
+                userMonthAlgorithmStatsRepository,
+                dailyGoalRepository,
+                solvedLogStatisticsRepository,
+                solvedLogCursorRepository,
+                algorithmCatalog,
+                problemCatalog,
+                new StatisticsSectionExecutor(mock(PlatformTransactionManager.class), "serial", 4, 10, Duration.ofSeconds(3))
+        );
+
+        when(dailyGoalRepository.sumGoalsByAlgorithm(any(), any(), any())).thenReturn(List.of());
+
+        when(solvedLogStatisticsRepository.streamRowsByUserIdAndSolvedDateBetween(eq(USER_ID), any(), any()))
+                .thenAnswer(invocation -> {
+                    LocalDate start = invocation.getArgument(1);
+                    LocalDate end = invocation.getArgument(2);
+                    return logs.stream()
+                            .filter(row -> !row.getSolvedDate().isBefore(start) && !row.getSolvedDate().isAfter(end))
+                            .map(row -> (SolvedLogStatisticsRepository.SolvedLogRowProjection) row);
+                });
+
+        when(solvedLogCursorRepository.findDayTierCounts(eq(USER_ID), any(), any()))
+                .thenAnswer(invocation -> {
+                    LocalDate start = invocation.getArgument(1);
+                    LocalDate end = invocation.getArgument(2);
+                    Map<List<Integer>, Long> counts = between(logs, start, end).stream()
+                            .collect(Collectors.groupingBy(
+                                    row -> List.of(row.getSolvedDate().getDayOfMonth(),
+                                            ProblemTier.fromLabel(row.getProblemTier()).ordinal()),
+                                    Collectors.counting()));
+                    return counts.entrySet().stream()
+                            .mapToInt(entry -> SolvedLogCursorRepository.DayTierCount.pack(
+                                    entry.getKey().get(0), entry.getKey().get(1), entry.getValue().intValue()))
+                            .toArray();
+                });
+    }
+
+    @Test
+    void singleScanMatchesLegacyImplementation() {
+        ReflectionTestUtils.setField(statisticsService, "summarySource", "scan");
+
+        for (long seed = 0; seed < 200; seed++) {
+            LocalDate baseDate = randomBaseDate(seed);
+            logs = randomLogs(seed, YearMonth.from(baseDate));
+
+            MonthlyStatisticsResponseDto actual = statisticsService.getMonthlySummary(USER_ID, baseDate);
+            MonthlyStatisticsResponseDto expected = legacyMonthlySummary(logs, baseDate);
+
+            assertThat(actual)
+                    .as("seed=%d", seed)
+                    .usingRecursiveComparison()
+                    .isEqualTo(expected);
+        }
+
+        // 대시보드 1회 로딩당 solved_log 조회는 1회
+        verify(solvedLogStatisticsRepository, times(200))
+                .streamRowsByUserIdAndSolvedDateBetween(eq(USER_ID), any(), any());
+    }
+
+    @Test
+    void rollupMatchesLegacyImplementation() {
+        ReflectionTestUtils.setField(statisticsService, "summarySource", "rollup");
+
+        for (long seed = 0; seed < 200; seed++) {
+            LocalDate baseDate = randomBaseDate(seed);
+            YearMonth yearMonth = YearMonth.from(baseDate);
+            logs = randomLogs(seed, yearMonth);
+
+            // solved_log -> 롤업 행
+            MonthlySolveAggregate current = new MonthlySolveAggregate(yearMonth);
+            MonthlySolveAggregate previous = new MonthlySolveAggregate(yearMonth.minusMonths(1));
+            ProblemTagCounter tagCounter = problemCatalog.newTagCounter();
+            for (Row row : logs) {
+                MonthlySolveAggregate target = YearMonth.from(row.getSolvedDate()).equals(yearMonth) ? current : previous;
+                target.add(row.getSolvedDate().getDayOfMonth(), row.getAlgorithmId(), ProblemTier.fromLabel(row.getProblemTier()),
+                        tagCounter.axisMask(row.getProblemId(), row.getAlgorithmId()));
+            }
+
+            when(userMonthStatsRepository.findById(new UserMonthStatsId(USER_ID, current.getMonthStart())))
+                    .thenReturn(Optional.of(current.toRollup(USER_ID)));
+            // 일부 시드는 지난 달 롤업이 없는 상태 -> (일, 티어)별 풀이 수 조회로 대체
+            when(userMonthStatsRepository.findById(new UserMonthStatsId(USER_ID, previous.getMonthStart())))
+                    .thenReturn(seed % 3 == 1 ? Optional.empty() : Optional.of(previous.toRollup(USER_ID)));
+            when(userMonthAlgorithmStatsRepository.findByUserIdAndStatMonthOrderBySolvedCountDescAlgorithmIdAsc(
+                    USER_ID, current.getMonthStart()))
+                    .thenReturn(current.toAlgorithmRollups(USER_ID));
+
+            MonthlyStatisticsResponseDto actual = statisticsService.getMonthlySummary(USER_ID, baseDate);
+            MonthlyStatisticsResponseDto expected = legacyMonthlySummary(logs, baseDate);
+
+            assertThat(actual)
+                    .as("seed=%d", seed)
+                    .usingRecursiveComparison()
+                    .isEqualTo(expected);
+        }
+
+        // 이번 달 롤업이 있으면 solved_log 행 스캔 없음
+        verify(solvedLogStatisticsRepository, never())
+                .streamRowsByUserIdAndSolvedDateBetween(any(), any(), any());
+        verify(solvedLogCursorRepository, times(67))
+                .findDayTierCounts(eq(USER_ID), any(), any());
+    }
+
+    private static LocalDate randomBaseDate(long seed) {
+        Random random = new Random(seed);
+        YearMonth yearMonth = YearMonth.of(2024 + random.nextInt(2), 1 + random.nextInt(12));
+        return yearMonth.atDay(1 + random.nextInt(yearMonth.lengthOfMonth()));
+    }
+
+    // 지난 달 + 이번 달 무작위 풀이 로그 (빈 달 포함)
+    private static List<Row> randomLogs(long seed, YearMonth yearMonth) {
+        Random random = new Random(seed * 31 + 7);
+        List<Row> rows = new ArrayList<>();
+
+        for (YearMonth month : List.of(yearMonth.minusMonths(1), yearMonth)) {
+            int size = (seed % 5 == 0) ? 0 : random.nextInt(120);
+            // 일부 달은 특정 주/알고리즘에 몰리게 생성
+            int dayBound = (seed % 3 == 0) ? Math.min(10, month.lengthOfMonth()) : month.lengthOfMonth();
+            int algorithmBound = (seed % 4 == 0) ? 2 : ALGORITHM_NAMES.size();
+
+            for (int i = 0; i < size; i++) {
+                rows.add(new Row(
+                        month.atDay(1 + random.nextInt(dayBound)),
+                        rows.size() + 1,
+                        1 + random.nextInt(algorithmBound),
+                        randomLevel(random)
+                ));
+            }
+        }
+        return rows;
+    }
+
+    // 난이도 0~30, 일부는 정보 없음(null)
+    private static Integer randomLevel(Random random) {
+        int level = random.nextInt(33) - 2;
+        return level < 0 ? null : level;
+    }
+
+    // ===== 기존 구현 (쿼리 7회 + 엔티티 조회 기반) 을 그대로 옮긴 기준 계산 =====
+    private static MonthlyStatisticsResponseDto legacyMonthlySummary(List<Row> allLogs, LocalDate baseDate) {
+        YearMonth yearMonth = YearMonth.from(baseDate);
+        LocalDate monthStart = yearMonth.atDay(1);
+        LocalDate monthEnd = yearMonth.atEndOfMonth();
+        int totalDays = yearMonth.lengthOfMonth();
+
+        List<Row> currentMonthLogs = between(allLogs, monthStart, monthEnd);
+        YearMonth prevYearMonth = yearMonth.minusMonths(1);
+        List<Row> prevMonthLogs = between(allLogs, prevYearMonth.atDay(1), prevYearMonth.atEndOfMonth());
+
+        long totalSolved = currentMonthLogs.size();
+        long solvedDays = currentMonthLogs.stream().map(Row::getSolvedDate).distinct().count();
+
+        int weekCount = (int) Math.ceil(totalDays / 7.0);
+        double weeklyAverage = weekCount > 0 ? (double) totalSolved / weekCount : 0.0;
+        double dailyAverage = totalDays > 0 ? (double) totalSolved / totalDays : 0.0;
+
+        // findTopAlgorithmsBySolvedCount : solvedCount desc, algorithmId asc
+        Map<Integer, Long> algorithmCounts = currentMonthLogs.stream()
+                .collect(Collectors.groupingBy(Row::getAlgorithmId, Collectors.counting()));
+        List<Map.Entry<Integer, Long>> algorithmStats = algorithmCounts.entrySet().stream()
+                .sorted(Comparator.<Map.Entry<Integer, Long>>comparingLong(Map.Entry::getValue).reversed()
+                        .thenComparing(Map.Entry::getKey))
+                .toList();
+
+        String topAlgorithmName = null;
+        Long topAlgorithmSolvedCount = null;
+        if (!algorithmStats.isEmpty()) {
+            topAlgorithmName = ALGORITHM_NAMES.get(algorithmStats.get(0).getKey());
+            topAlgorithmSolvedCount = algorithmStats.get(0).getValue();
+        }
+
+        // findTierStatsBySolvedCount + max(count, tierPriority)
+        Map<String, Long> tierCounts = currentMonthLogs.stream()
+                .collect(Collectors.groupingBy(Row::getProblemTier, Collectors.counting()));
+        String topProblemTier = null;
+        Long topProblemTierSolvedCount = null;
+        if (!tierCounts.isEmpty()) {
+            Map.Entry<String, Long> topTier = tierCounts.entrySet().stream()
+                    .max(Comparator.<Map.Entry<String, Long>>comparingLong(Map.Entry::getValue)
+                            .thenComparingInt(e -> Math.max(TIER_ORDER.indexOf(e.getKey()), 0)))
+                    .get();
+            topProblemTier = topTier.getKey();
+            topProblemTierSolvedCount = topTier.getValue();
+        }
+
+        StatisticsMonthlySummaryResponseDto summary = StatisticsMonthlySummaryResponseDto.builder()
+                .baseDate(baseDate)
+                .monthStartDate(monthStart)
+                .monthEndDate(monthEnd)
+                .totalSolved(totalSolved)
+                .weeklyAverage(weeklyAverage)
+                .dailyAverage(dailyAverage)
+                .solvedDays((int) solvedDays)
+                .totalDays(totalDays)
+                .topAlgorithmName(topAlgorithmName)
+                .topAlgorithmSolvedCount(topAlgorithmSolvedCount)
+                .topProblemTier(topProblemTier)
+                .topProblemTierSolvedCount(topProblemTierSolvedCount)
+                .build();
+
+        // ===== advice =====
+        String lowestRatioAlgorithmName = null;
+        Double lowestRatioPercent = null;
+        String biasedAlgorithmName = null;
+        Double biasedAlgorithmPercent = null;
+
+        if (totalSolved > 0 && !algorithmStats.isEmpty()) {
+            double minRatio = Double.MAX_VALUE;
+            String minAlgoName = null;
+            double biasedMaxRatio = Double.MIN_VALUE;
+            String biasedAlgoNameTemp = null;
+
+            for (Map.Entry<Integer, Long> stat : algorithmStats) {
+                double ratio = (double) stat.getValue() * 100.0 / (double) totalSolved;
+                String name = ALGORITHM_NAMES.get(stat.getKey());
+                if (ratio < minRatio) {
+                    minRatio = ratio;
+                    minAlgoName = name;
+                }
+                if (ratio >= 40.0 && ratio > biasedMaxRatio) {
+                    biasedMaxRatio = ratio;
+                    biasedAlgoNameTemp = name;
+                }
+            }
+            lowestRatioAlgorithmName = minAlgoName;
+            lowestRatioPercent = (minRatio == Double.MAX_VALUE) ? null : minRatio;
+            if (biasedAlgoNameTemp != null) {
+                biasedAlgorithmName = biasedAlgoNameTemp;
+                biasedAlgorithmPercent = biasedMaxRatio;
+            }
+        }
+
+        String weeklyTrend = "NONE";
+        Integer weeklyTrendStreak = 0;
+        if (!currentMonthLogs.isEmpty()) {
+            Map<Integer, List<Double>> weekScoreMap = new HashMap<>();
+            for (Row log : currentMonthLogs) {
+                int weekIndex = (log.getSolvedDate().getDayOfMonth() - 1) / 7;
+                weekScoreMap.computeIfAbsent(weekIndex, k -> new ArrayList<>()).add(tierScore(log.getProblemTier()));
+            }
+            List<Double> weeklyAverages = new ArrayList<>();
+            for (Integer w : weekScoreMap.keySet().stream().sorted().toList()) {
+                weeklyAverages.add(weekScoreMap.get(w).stream().mapToDouble(Double::doubleValue).average().orElse(0.0));
+            }
+            if (weeklyAverages.size() >= 2) {
+                List<String> weekTrends = new ArrayList<>();
+                for (int i = 1; i < weeklyAverages.size(); i++) {
+                    weekTrends.add(trend(weeklyAverages.get(i) - weeklyAverages.get(i - 1)));
+                }
+                String lastTrend = weekTrends.get(weekTrends.size() - 1);
+                weeklyTrend = lastTrend;
+                int streak = 1;
+                for (int i = weekTrends.size() - 2; i >= 0; i--) {
+                    if (weekTrends.get(i).equals(lastTrend)) {
+                        streak++;
+                    } else {
+                        break;
+                    }
+                }
+                weeklyTrendStreak = streak;
+            }
+        }
+
+        Double currentAvgTier = averageTierScore(currentMonthLogs);
+        Double previousAvgTier = averageTierScore(prevMonthLogs);
+        String monthlyTrend = (previousAvgTier != null && currentAvgTier != null)
+                ? trend(currentAvgTier - previousAvgTier)
+                : "NONE";
+
+        StatisticsMonthlyAdviceResponseDto advice = StatisticsMonthlyAdviceResponseDto.builder()
+                .lowestRatioAlgorithmName(lowestRatioAlgorithmName)
+                .lowestRatioPercent(lowestRatioPercent)
+                .biasedAlgorithmName(biasedAlgorithmName)
+                .biasedAlgorithmPercent(biasedAlgorithmPercent)
+                .difficultyWeeklyTrend(weeklyTrend)
+                .difficultyWeeklyTrendStreakWeeks(weeklyTrendStreak)
+                .difficultyMonthlyTrend(monthlyTrend)
+                .build();
+
+        // ===== weekdayStats =====
+        int[] dayCount = new int[7];
+        long[] solvedCount = new long[7];
+        for (int day = 1; day <= totalDays; day++) {
+            dayCount[yearMonth.atDay(day).getDayOfWeek().getValue() % 7]++;
+        }
+        for (Row log : currentMonthLogs) {
+            solvedCount[log.getSolvedDate().getDayOfWeek().getValue() % 7]++;
+        }
+        List<StatisticsWeekdayStatDto> weekdayStats = new ArrayList<>();
+        for (int idx : new int[]{1, 2, 3, 4, 5, 6, 0}) {
+            weekdayStats.add(StatisticsWeekdayStatDto.builder()
+                    .dayOfWeek(idx)
+                    .label(WEEKDAY_LABELS[idx])
+                    .avgSolved(dayCount[idx] > 0 ? (double) solvedCount[idx] / (double) dayCount[idx] : 0.0)
+                    .build());
+        }
+
+        // ===== hexagon =====
+        Map<String, Long> axisSolved = new HashMap<>();
+        for (Map.Entry<Integer, Long> stat : algorithmStats) {
+            String axis = AXIS_BY_NAME.getOrDefault(ALGORITHM_NAMES.get(stat.getKey()), "IMPLEMENTATION");
+            axisSolved.merge(axis, stat.getValue(), Long::sum);
+        }
+        List<StatisticsHexagonAxisDto> hexagon = new ArrayList<>();
+        for (String[] axis : AXES) {
+            long solved = axisSolved.getOrDefault(axis[0], 0L);
+            hexagon.add(StatisticsHexagonAxisDto.builder()
+                    .axis(axis[0])
+                    .label(axis[1])
+                    .solved(solved)
+                    .ratio(totalSolved > 0 ? solved * 100.0 / (double) totalSolved : 0.0)
+                    .build());
+        }
+
+        return MonthlyStatisticsResponseDto.builder()
+                .summary(summary)
+                .advice(advice)
+                .weekdayStats(weekdayStats)
+                .hexagon(hexagon)
+                .algorithmStats(List.of())
+                .build();
+    }
+
+    private static List<Row> between(List<Row> rows, LocalDate start, LocalDate end) {
+        return rows.stream()
+                .filter(row -> !row.getSolvedDate().isBefore(start) && !row.getSolvedDate().isAfter(end))
+                .toList();
+    }
+
+    private static double tierScore(String tier) {
+        return Math.max(TIER_ORDER.indexOf(tier) - 1, 0);
+    }
+
+    private static Double averageTierScore(List<Row> rows) {
+        if (rows.isEmpty()) {
+            return null;
+        }
+        return rows.stream().mapToDouble(row -> tierScore(row.getProblemTier())).average().orElse(0.0);
+    }
+
+    private static String trend(double diff) {
+        if (diff > 0.1) {
+            return "UP";
+        } else if (diff < -0.1) {
+            return "DOWN";
+        }
+        return "SAME";
+    }
+
+    // solved_log 최소 컬럼 행
+    private static class Row implements SolvedLogStatisticsRepository.SolvedLogRowProjection {
+
+        private final LocalDate solvedDate;
+        private final Integer problemId;
+        private final Integer algorithmId;
+        private final Integer problemLevel;
+
+        Row(LocalDate solvedDate, Integer problemId, Integer algorithmId, Integer problemLevel) {
+            this.solvedDate = solvedDate;
+            this.problemId = problemId;
+            this.algorithmId = algorithmId;
+            this.problemLevel = problemLevel;
+        }
+
+        @Override
+        public LocalDate getSolvedDate() {
+            return solvedDate;
+        }
+
+        @Override
+        public Integer getProblemId() {
+            return problemId;
+        }
+
+        @Override
+        public Integer getAlgorithmId() {
+            return algorithmId;
+        }
+
+        @Override
+        public Integer getProblemLevel() {
+            return problemLevel;
+        }
+
+        // 기존 문자열 티어 컬럼 값 (기존 계산 기준)
+        String getProblemTier() {
+            return ProblemTier.fromLevel(problemLevel).getLabel();
+        }
+    }
+
+}
@@ -0,0 +1,208 @@
+package com.errorterry.algotrack_backend_spring.service;
+
+import com.errorterry.algotrack_backend_spring.domain.Algorithm;
+import com.errorterry.algotrack_backend_spring.domain.ProblemTier;
+import com.errorterry.algotrack_backend_spring.domain.SolvedLog;
+import com.errorterry.algotrack_backend_spring.domain.User;
+import com.errorterry.algotrack_backend_spring.repository.SolvedLogCursorRepository.DayTierCount;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.YearMonth;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// 티어 추세 계산 결과 비교
+// - 기존 : 월 전체 SolvedLog 엔티티 + Map<Integer, List<Double>> (풀이 1건마다 객체 생성)
+// - 변경 : (일, 티어)별 풀이 수 압축 int[] + int[] / double[] 누적
+// - 요청당 할당량 비교는 benchmark 태그 (test 에서 제외, ./gradlew benchmark 로 실행)
+class TierTrendPackedCountsTest {
+
+    private static final int MONTHLY_SOLVES = 3000;
+    private static final int SEEDS = 50;
+    private static final int ITERATIONS = 200;
+
+    private static final YearMonth CURRENT = YearMonth.of(2025, 3);
+    private static final YearMonth PREVIOUS = CURRENT.minusMonths(1);
+
+    @Test
+    void packedTrendMatchesEntityTrend() {
+        for (long seed = 0; seed < SEEDS; seed++) {
+            Random random = new Random(seed);
+            int[][] currentRows = randomRows(random, CURRENT);
+            int[][] previousRows = randomRows(random, PREVIOUS);
+
+            assertThat(packedTrend(pack(currentRows), pack(previousRows)))
+                    .as("seed=%d", seed)
+                    .isEqualTo(entityTrend(currentRows, previousRows));
+        }
+    }
+
+    @Test
+    void packRoundTripsAndRejectsOverflow() {
+        int packed = DayTierCount.pack(31, ProblemTier.RUBY.ordinal(), DayTierCount.MAX_COUNT);
+
+        assertThat(DayTierCount.dayOfMonth(packed)).isEqualTo(31);
+        assertThat(DayTierCount.tierOrdinal(packed)).isEqualTo(ProblemTier.RUBY.ordinal());
+        assertThat(DayTierCount.count(packed)).isEqualTo(DayTierCount.MAX_COUNT);
+
+        assertThatThrownBy(() -> DayTierCount.pack(1, 0, DayTierCount.MAX_COUNT + 1))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    // 요청 1회당 할당 바이트 (기존 엔티티 경로 vs 압축 배열 경로)
+    // - 값은 JIT / GC 설정에 따라 달라지므로 출력만 하고 비율은 검증하지 않음
+    @Test
+    @Tag("benchmark")
+    void reportAllocationPerRequest() {
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported() && threadBean.isThreadAllocatedMemoryEnabled());
+
+        Random random = new Random(42);
+        int[][] currentRows = randomRows(random, CURRENT);
+        int[][] previousRows = randomRows(random, PREVIOUS);
+        int[] currentPacked = pack(currentRows);
+        int[] previousPacked = pack(previousRows);
+
+        // 결과 동일성 + JIT 워밍업
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertThat(packedTrend(currentPacked, previousPacked))
+                    .isEqualTo(entityTrend(currentRows, previousRows));
+        }
+
+        long entityBytes = allocatedBytes(threadBean, () -> entityTrend(currentRows, previousRows));
+        long packedBytes = allocatedBytes(threadBean, () -> packedTrend(currentPacked, previousPacked));
+
+        System.out.printf(
+                "tier trend allocation per request (%d solves/month): entity=%d bytes, packed=%d bytes%n",
+                MONTHLY_SOLVES, entityBytes / ITERATIONS, packedBytes / ITERATIONS
+        );
+    }
+
+    private static long allocatedBytes(com.sun.management.ThreadMXBean threadBean, Runnable task) {
+        long threadId = Thread.currentThread().getId();
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            task.run();
+        }
+        return threadBean.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    // 변경 : 압축 배열 -> 월간 집계 -> TierTrend
+    private static List<Object> packedTrend(int[] currentPacked, int[] previousPacked) {
+        MonthlySolveAggregate current = new MonthlySolveAggregate(CURRENT);
+        MonthlySolveAggregate previous = new MonthlySolveAggregate(PREVIOUS);
+        current.addDayTierCounts(currentPacked);
+        previous.addDayTierCounts(previousPacked);
+
+        TierTrend.Weekly weekly = TierTrend.weekly(TierTrend.weeklyAverages(
+                current.dayCounts(), current.dayTierScoreSums(), CURRENT.lengthOfMonth()));
+
+        return List.of(
+                weekly.trend(),
+                weekly.streakWeeks(),
+                TierTrend.compare(previous.getAverageTierScore(), current.getAverageTierScore())
+        );
+    }
+
+    // 기존 : 엔티티 목록 -> 주차별 List<Double> -> 평균
+    private static List<Object> entityTrend(int[][] currentRows, int[][] previousRows) {
+        List<SolvedLog> currentLogs = hydrate(currentRows, CURRENT);
+        List<SolvedLog> previousLogs = hydrate(previousRows, PREVIOUS);
+
+        Map<Integer, List<Double>> weekScoreMap = new HashMap<>();
+        for (SolvedLog log : currentLogs) {
+            int weekIndex = (log.getSolvedDate().getDayOfMonth() - 1) / 7;
+            weekScoreMap.computeIfAbsent(weekIndex, k -> new ArrayList<>())
+                    .add((double) log.getProblemTier().getScore());
+        }
+        List<Double> weeklyAverages = new ArrayList<>();
+        for (Integer w : weekScoreMap.keySet().stream().sorted().toList()) {
+            weeklyAverages.add(weekScoreMap.get(w).stream().mapToDouble(Double::doubleValue).average().orElse(0.0));
+        }
+
+        List<String> weekTrends = new ArrayList<>();
+        for (int i = 1; i < weeklyAverages.size(); i++) {
+            weekTrends.add(TierTrend.compare(weeklyAverages.get(i - 1), weeklyAverages.get(i)));
+        }
+        String lastTrend = weekTrends.get(weekTrends.size() - 1);
+        int streak = 1;
+        for (int i = weekTrends.size() - 2; i >= 0 && weekTrends.get(i).equals(lastTrend); i--) {
+            streak++;
+        }
+
+        return List.of(
+                lastTrend,
+                streak,
+                TierTrend.compare(calcAverageTierScore(previousLogs), calcAverageTierScore(currentLogs))
+        );
+    }
+
+    private static double calcAverageTierScore(List<SolvedLog> logs) {
+        return logs.stream()
+                .map(log -> (double) log.getProblemTier().getScore())
+                .mapToDouble(Double::doubleValue)
+                .average()
+                .orElse(0.0);
+    }
+
+    // solved_log 조회 결과 엔티티화 (User / Algorithm 은 지연 로딩 프록시 대신 빈 객체)
+    private static List<SolvedLog> hydrate(int[][] rows, YearMonth yearMonth) {
+        List<SolvedLog> logs = new ArrayList<>();
+        for (int[] row : rows) {
+            logs.add(SolvedLog.builder()
+                    .user(new User())
+                    .algorithm(new Algorithm())
+                    .problemId(row[2])
+                    .solvedDate(yearMonth.atDay(row[0]))
+                    .problemLevel(levelOf(ProblemTier.fromOrdinal(row[1])))
+                    .build());
+        }
+        return logs;
+    }
+
+    // 티어 -> 해당 티어의 최소 난이도 (X = null)
+    private static Integer levelOf(ProblemTier tier) {
+        if (tier == ProblemTier.X) {
+            return null;
+        }
+        return tier == ProblemTier.UNRATED ? 0 : (tier.ordinal() - ProblemTier.UNRATED.ordinal() - 1) * 5 + 1;
+    }
+
+    // DB 의 GROUP BY (일, 티어) 결과와 같은 압축 배열
+    private static int[] pack(int[][] rows) {
+        int tierCount = ProblemTier.count();
+        int[] counts = new int[32 * tierCount];
+        for (int[] row : rows) {
+            counts[row[0] * tierCount + row[1]]++;
+        }
+
+        int[] packed = new int[counts.length];
+        int size = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                packed[size++] = DayTierCount.pack(i / tierCount, i % tierCount, counts[i]);
+            }
+        }
+        return Arrays.copyOf(packed, size);
+    }
+
+    // (일, 티어 ordinal, 문제 번호) 무작위 풀이
+    private static int[][] randomRows(Random random, YearMonth yearMonth) {
+        int[][] rows = new int[MONTHLY_SOLVES][];
+        for (int i = 0; i < MONTHLY_SOLVES; i++) {
+            rows[i] = new int[]{
+                    1 + random.nextInt(yearMonth.lengthOfMonth()),
+                    random.nextInt(ProblemTier.count()),
+                    1000 + random.nextInt(30000)
+            };
+        }
+        return rows;
+    }
+
+}